@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.cache;
+
+import jakarta.annotation.Nonnull;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Count Cache Class
+ *
+ * <p>
+ * Caches the total number of rows of a table so that paging requests do not run a {@code COUNT(*)}
+ * each time. The first call counts synchronously; afterwards a stale count is still returned while a
+ * single refresh runs in the background on the given executor. The counter may be exact, such as
+ * {@code repository::count}, or approximate, read from the statistics of the database, for example
+ * on PostgreSQL:
+ * </p>
+ *
+ * <pre>{@code
+ * @Query(value = "select reltuples::bigint from pg_class where oid = 'users'::regclass", nativeQuery = true)
+ * long estimateCount();
+ * }</pre>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class CountCache {
+
+    private final LongSupplier counter;
+    private final long timeToLiveMillis;
+    private final Executor executor;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile long count;
+    private volatile long countedAt = Long.MIN_VALUE;
+
+    /**
+     * Constructs a new CountCache.
+     *
+     * @param counter          The function counting the rows, exactly or approximately.
+     * @param timeToLiveMillis The time in milliseconds after which the count is refreshed.
+     * @param executor         The executor running background refreshes.
+     */
+    public CountCache(@Nonnull LongSupplier counter, long timeToLiveMillis, @Nonnull Executor executor) {
+        this.counter = counter;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the cached count, refreshing it in the background when it is older than the time to live.
+     *
+     * @return The cached number of rows.
+     */
+    public long get() {
+        if (countedAt == Long.MIN_VALUE) {
+            synchronized (this) {
+                if (countedAt == Long.MIN_VALUE) refresh();
+            }
+        } else if (System.currentTimeMillis() - countedAt > timeToLiveMillis && refreshing.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        refresh();
+                    } finally {
+                        refreshing.set(false);
+                    }
+                });
+            } catch (RuntimeException exception) {
+                refreshing.set(false);
+                throw exception;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Marks the cached count as stale so that the next call refreshes it in the background.
+     */
+    public void invalidate() {
+        if (countedAt != Long.MIN_VALUE) countedAt = 0;
+    }
+
+    /**
+     * Converts a count-free slice into a page carrying the cached total.
+     *
+     * @param slice The slice fetched without counting.
+     * @return A {@link Page} with the content of the slice and the cached total.
+     * @param <T> The type of the items in the slice.
+     */
+    @Nonnull
+    public <T> Page<T> toPage(@Nonnull Slice<T> slice) {
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), get());
+    }
+
+    /**
+     * Counts the rows and stores the result.
+     */
+    private void refresh() {
+        long refreshed = counter.getAsLong();
+        count = refreshed;
+        countedAt = System.currentTimeMillis();
+    }
+}
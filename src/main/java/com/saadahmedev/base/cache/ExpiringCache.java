@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.cache;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Expiring Cache Class
+ *
+ * <p>
+ * A bounded, thread-safe in-memory cache where every entry carries its own expiration time.
+ * When the cache is full the least recently used entry is evicted, and expired entries are
+ * removed lazily when they are read. Hit and miss counters are kept for monitoring.
+ * </p>
+ *
+ * @param <K> The type of the cache keys.
+ * @param <V> The type of the cached values.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class ExpiringCache<K, V> {
+
+    private final int maximumSize;
+    private final long timeToLiveMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Constructs a new ExpiringCache.
+     *
+     * @param maximumSize      The maximum number of entries kept in the cache.
+     * @param timeToLiveMillis The default time to live of an entry in milliseconds.
+     */
+    public ExpiringCache(int maximumSize, long timeToLiveMillis) {
+        if (maximumSize <= 0) throw new IllegalArgumentException("Maximum size must be positive");
+        if (timeToLiveMillis <= 0) throw new IllegalArgumentException("Time to live must be positive");
+
+        this.maximumSize = maximumSize;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > ExpiringCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the value cached for the given key.
+     *
+     * @param key The key to look up.
+     * @return The cached value, or null if the key is absent or its entry has expired.
+     */
+    @Nullable
+    public V get(@Nonnull K key) {
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > now) {
+                    hitCount.increment();
+                    return entry.value;
+                }
+                entries.remove(key);
+            }
+        }
+
+        missCount.increment();
+        return null;
+    }
+
+    /**
+     * Caches a value using the default time to live.
+     *
+     * @param key   The key of the entry.
+     * @param value The value to cache.
+     */
+    public void put(@Nonnull K key, @Nonnull V value) {
+        put(key, value, System.currentTimeMillis() + timeToLiveMillis);
+    }
+
+    /**
+     * Caches a value until the given expiration time. The entry never outlives the default time to live.
+     *
+     * @param key       The key of the entry.
+     * @param value     The value to cache.
+     * @param expiresAt The expiration time of the entry in milliseconds since the epoch.
+     */
+    public void put(@Nonnull K key, @Nonnull V value, long expiresAt) {
+        long expiration = Math.min(expiresAt, System.currentTimeMillis() + timeToLiveMillis);
+
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, expiration));
+        }
+    }
+
+    /**
+     * Removes the entry cached for the given key.
+     *
+     * @param key The key of the entry to remove.
+     */
+    public void invalidate(@Nonnull K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Gets the number of entries currently held, including expired entries not yet removed.
+     *
+     * @return The number of entries in the cache.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets the number of lookups that found a live entry.
+     *
+     * @return The hit count of the cache.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the number of lookups that found no live entry.
+     *
+     * @return The miss count of the cache.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * A cached value together with its expiration time.
+     *
+     * @param value     The cached value.
+     * @param expiresAt The expiration time in milliseconds since the epoch.
+     * @param <V>       The type of the cached value.
+     */
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
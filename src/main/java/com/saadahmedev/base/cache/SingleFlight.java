@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.cache;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single Flight Class
+ *
+ * <p>
+ * Coalesces concurrent loads of the same key: the first caller runs the loader while every other
+ * caller arriving before it finishes waits on the same {@link CompletableFuture} and receives the
+ * same result or exception. Once the load completes the key is released, so later callers load again.
+ * </p>
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the loaded values.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the value of the given key, sharing the load with concurrent callers of the same key.
+     *
+     * @param key    The key to load.
+     * @param loader The function loading the value when no load of the key is in flight.
+     * @return The loaded value.
+     */
+    public V execute(@Nonnull K key, @Nonnull Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) return join(existing);
+
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error throwable) {
+            future.completeExceptionally(throwable);
+            throw throwable;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Gets the number of loads currently in flight.
+     *
+     * @return The number of keys being loaded.
+     */
+    public int size() {
+        return inFlight.size();
+    }
+
+    /**
+     * Waits for a load started by another caller and rethrows its exception unwrapped.
+     *
+     * @param future The future of the load in flight.
+     * @return The loaded value.
+     */
+    private V join(@Nonnull CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw exception;
+        }
+    }
+}
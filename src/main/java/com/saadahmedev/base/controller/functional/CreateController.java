@@ -16,12 +16,15 @@
 
 package com.saadahmedev.base.controller.functional;
 
+import com.saadahmedev.base.response.ServerResponse;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+
 /**
  * Functional interface for creating entities within a controller.
  *
@@ -41,4 +44,16 @@ public interface CreateController<D> {
     @Nonnull
     @PostMapping
     ResponseEntity<?> create(@Nullable @RequestBody D body);
+
+    /**
+     * Handles the HTTP POST request to create many entities at once.
+     *
+     * @param bodies The request bodies representing the data for creating the entities.
+     * @return A ResponseEntity representing the result of the create-all operation, or a not implemented response by default.
+     */
+    @Nonnull
+    @PostMapping("bulk")
+    default ResponseEntity<?> createAll(@Nullable @RequestBody List<D> bodies) {
+        return ServerResponse.notImplemented("Bulk create is not supported");
+    }
 }
@@ -16,10 +16,14 @@
 
 package com.saadahmedev.base.controller.functional;
 
+import com.saadahmedev.base.response.ServerResponse;
 import jakarta.annotation.Nonnull;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 /**
  * Functional Interface for Deleting Entities by Identifier within a Controller.
@@ -39,5 +43,18 @@ public interface DeleteController<I> {
     @Nonnull
     @DeleteMapping("{id}")
     ResponseEntity<?> deleteById(@PathVariable("id") I id);
+
+    /**
+     * Handles the HTTP DELETE request to delete many entities by their identifiers in one statement,
+     * for example {@code DELETE ids?ids=1,2,3}.
+     *
+     * @param ids The identifiers representing the entities to be deleted.
+     * @return A ResponseEntity representing the result of the delete-all-by-id operation, or a not implemented response by default.
+     */
+    @Nonnull
+    @DeleteMapping("ids")
+    default ResponseEntity<?> deleteAllById(@RequestParam("ids") List<I> ids) {
+        return ServerResponse.notImplemented("Bulk delete is not supported");
+    }
 }
 
@@ -16,6 +16,8 @@
 
 package com.saadahmedev.base.controller.functional;
 
+import com.saadahmedev.base.response.ServerResponse;
+import com.saadahmedev.base.response.StreamFormat;
 import jakarta.annotation.Nonnull;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -47,5 +49,44 @@ public interface FindAllController {
     @Nonnull
     @GetMapping("paging")
     ResponseEntity<?> findAll(@RequestParam(value = "page", defaultValue = "0") int page, @RequestParam(value = "size", defaultValue = "10") int size);
+
+    /**
+     * Handles the HTTP GET request to find items with pagination, without counting all items.
+     *
+     * @param page The page number for pagination (default is 0).
+     * @param size The page size for pagination (default is 10).
+     * @return A ResponseEntity representing the slice, or a not implemented response by default.
+     */
+    @Nonnull
+    @GetMapping("slice")
+    default ResponseEntity<?> findAllSlice(@RequestParam(value = "page", defaultValue = "0") int page, @RequestParam(value = "size", defaultValue = "10") int size) {
+        return ServerResponse.notImplemented("Slice pagination is not supported");
+    }
+
+    /**
+     * Handles the HTTP GET request to find items with keyset (seek) pagination.
+     *
+     * @param cursor The opaque cursor returned with the previous page, or absent for the first page.
+     * @param size   The page size for pagination (default is 10).
+     * @param count  Whether the total number of items should be counted (default is false).
+     * @return A ResponseEntity representing the page, or a not implemented response by default.
+     */
+    @Nonnull
+    @GetMapping("cursor")
+    default ResponseEntity<?> findAllByCursor(@RequestParam(value = "cursor", required = false) String cursor, @RequestParam(value = "size", defaultValue = "10") int size, @RequestParam(value = "count", defaultValue = "false") boolean count) {
+        return ServerResponse.notImplemented("Cursor pagination is not supported");
+    }
+
+    /**
+     * Handles the HTTP GET request to stream all items without loading them into memory.
+     *
+     * @param format The output format, either JSON (a JSON array) or NDJSON (default is JSON).
+     * @return A ResponseEntity streaming all items, or a not implemented response by default.
+     */
+    @Nonnull
+    @GetMapping("stream")
+    default ResponseEntity<?> streamAll(@RequestParam(value = "format", defaultValue = "JSON") StreamFormat format) {
+        return ServerResponse.notImplemented("Streaming is not supported");
+    }
 }
 
@@ -16,10 +16,14 @@
 
 package com.saadahmedev.base.controller.functional;
 
+import com.saadahmedev.base.response.ServerResponse;
 import jakarta.annotation.Nonnull;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 /**
  * Interface for finding entities by their identifier from the service layer.
@@ -49,4 +53,17 @@ public interface FindController<I> {
     @Nonnull
     @GetMapping("projection/{id}")
     ResponseEntity<?> findProjection(@PathVariable("id") I id);
+
+    /**
+     * Handles the HTTP GET request to find many entities by their identifiers in one round-trip,
+     * for example {@code GET ids?ids=1,2,3}.
+     *
+     * @param ids The identifiers representing the entities to be found.
+     * @return A ResponseEntity representing the result of the find-all-by-id operation, or a not implemented response by default.
+     */
+    @Nonnull
+    @GetMapping("ids")
+    default ResponseEntity<?> findAllById(@RequestParam("ids") List<I> ids) {
+        return ServerResponse.notImplemented("Batch lookup is not supported");
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.controller.functional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+
+/**
+ * Functional Interface for Partially Updating Entities within a Controller.
+ *
+ * <p>
+ * Not part of {@link com.saadahmedev.base.controller.BaseController}; controllers that support partial
+ * updates implement it next to the base controller.
+ * </p>
+ *
+ * @param <I> The type representing the identifier for patching an entity.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@FunctionalInterface
+public interface PatchController<I> {
+
+    /**
+     * The media type of a JSON Merge Patch (RFC 7396).
+     */
+    String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    /**
+     * Handles the HTTP PATCH request to partially update an entity by its identifier.
+     *
+     * @param id    The identifier representing the entity to be patched.
+     * @param patch The JSON Merge Patch holding only the members to change.
+     * @return A ResponseEntity representing the result of the patch operation.
+     */
+    @Nonnull
+    @PatchMapping(value = "{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    ResponseEntity<?> patch(@PathVariable("id") I id, @Nullable @RequestBody JsonNode patch);
+}
@@ -16,12 +16,17 @@
 
 package com.saadahmedev.base.controller.functional;
 
+import com.saadahmedev.base.response.ServerResponse;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Functional Interface for Updating Entities within a Controller.
@@ -42,4 +47,42 @@ public interface UpdateController<I, D> {
     @Nonnull
     @PutMapping("{id}")
     ResponseEntity<?> update(@PathVariable("id") I id, @Nullable @RequestBody D body);
+
+    /**
+     * The prefix of the query parameters holding the criteria of a bulk update.
+     */
+    String CRITERIA_PREFIX = "where.";
+
+    /**
+     * Handles the HTTP PUT request to update every entity matching the criteria in one statement. The criteria are
+     * the query parameters prefixed with {@link #CRITERIA_PREFIX}, for example {@code PUT ?where.status=PENDING};
+     * other query parameters are ignored. Override {@link #updateMatching(Map, Object)} to support bulk updates.
+     *
+     * @param parameters The query parameters of the request.
+     * @param body       The request body containing the updated data for the entities.
+     * @return A ResponseEntity representing the result of the update-where operation, or a not implemented response by default.
+     */
+    @Nonnull
+    @PutMapping
+    default ResponseEntity<?> updateWhere(@RequestParam Map<String, String> parameters, @Nullable @RequestBody D body) {
+        Map<String, String> criteria = new LinkedHashMap<>();
+        parameters.forEach((name, value) -> {
+            if (name.startsWith(CRITERIA_PREFIX)) criteria.put(name.substring(CRITERIA_PREFIX.length()), value);
+        });
+
+        return updateMatching(criteria, body);
+    }
+
+    /**
+     * Updates every entity matching the given criteria in one statement, typically by calling
+     * {@link com.saadahmedev.base.service.functional.UpdateService#updateWhere(Map, Object)}.
+     *
+     * @param criteria The attribute values the entities to update must be equal to, without their prefix.
+     * @param body     The request body containing the updated data for the entities.
+     * @return A ResponseEntity representing the result of the update-where operation, or a not implemented response by default.
+     */
+    @Nonnull
+    default ResponseEntity<?> updateMatching(@Nonnull Map<String, String> criteria, @Nullable D body) {
+        return ServerResponse.notImplemented("Bulk update is not supported");
+    }
 }
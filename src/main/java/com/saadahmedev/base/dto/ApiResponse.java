@@ -17,13 +17,10 @@
 package com.saadahmedev.base.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.saadahmedev.base.exception.exception.ApiException;
+import com.saadahmedev.base.util.DateUtil;
+import com.saadahmedev.base.util.JsonUtil;
 import jakarta.annotation.Nonnull;
 
-import java.util.Date;
-
 /**
  * ApiResponse Class
  *
@@ -57,7 +54,7 @@ public class ApiResponse {
         this.statusCode = statusCode;
         this.status = status;
         this.message = message;
-        this.timeStamp = new Date().toInstant().toString();
+        this.timeStamp = DateUtil.getInstant();
     }
 
     /**
@@ -108,7 +105,7 @@ public class ApiResponse {
      * Returns a JSON representation of the ApiResponse instance.
      *
      * <p>
-     * This method utilizes the Jackson ObjectMapper to serialize the ApiResponse instance
+     * This method utilizes the shared, cached Jackson writer of {@link JsonUtil} to serialize the ApiResponse instance
      * into a JSON string, providing a string representation of the object's values.
      * </p>
      *
@@ -117,10 +114,6 @@ public class ApiResponse {
 
     @Override
     public String toString() {
-        try {
-            return new ObjectMapper().writeValueAsString(this);
-        } catch (JsonProcessingException exception) {
-            throw new ApiException(exception);
-        }
+        return JsonUtil.toJson(this);
     }
 }
\ No newline at end of file
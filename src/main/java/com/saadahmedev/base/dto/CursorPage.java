@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * CursorPage Class
+ *
+ * <p>
+ * Represents one page of a keyset (seek) paginated result. Instead of a page number it carries
+ * an opaque cursor pointing after the last item, which the client sends back to get the next page.
+ * </p>
+ *
+ * @param <T> The type of the items in the page.
+ *
+ * @see com.saadahmedev.base.util.CursorUtil
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class CursorPage<T> {
+
+    private final List<T> content;
+    @JsonProperty("next_cursor")
+    private final String nextCursor;
+    private final Long total;
+
+    /**
+     * Constructs an instance of the CursorPage class.
+     *
+     * @param content    The items of the page.
+     * @param nextCursor The cursor of the next page, or null if this is the last page.
+     * @param total      The total number of items, or null if it was not counted.
+     */
+    public CursorPage(@Nonnull List<T> content, @Nullable String nextCursor, @Nullable Long total) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.total = total;
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}, so that the extra row tells
+     * whether a next page exists without counting.
+     *
+     * @param rows           The rows fetched after the previous cursor, at most {@code size + 1}.
+     * @param size           The page size requested by the client.
+     * @param cursorFunction The function encoding the cursor of a row, such as {@code row -> CursorUtil.encode(row.getId())}.
+     * @param mapper         The function mapping each row to an item of the page.
+     * @param total          The total number of items, or null if it was not counted.
+     * @return The {@link CursorPage} of the rows.
+     * @param <E> The type of the fetched rows.
+     * @param <T> The type of the items in the page.
+     */
+    @Nonnull
+    public static <E, T> CursorPage<T> of(@Nonnull List<E> rows, int size, @Nonnull Function<? super E, String> cursorFunction, @Nonnull Function<? super E, ? extends T> mapper, @Nullable Long total) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<T> content = new ArrayList<>(pageRows.size());
+        for (E row : pageRows) {
+            content.add(mapper.apply(row));
+        }
+
+        String nextCursor = hasNext && !pageRows.isEmpty() ? cursorFunction.apply(pageRows.get(pageRows.size() - 1)) : null;
+        return new CursorPage<>(content, nextCursor, total);
+    }
+
+    /**
+     * Gets the items of the page.
+     *
+     * @return The items of the page.
+     */
+    @Nonnull
+    public List<T> getContent() {
+        return content;
+    }
+
+    /**
+     * Gets the cursor of the next page.
+     *
+     * @return The cursor of the next page, or null if this is the last page.
+     */
+    @Nullable
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Gets the total number of items.
+     *
+     * @return The total number of items, or null if it was not counted.
+     */
+    @Nullable
+    public Long getTotal() {
+        return total;
+    }
+}
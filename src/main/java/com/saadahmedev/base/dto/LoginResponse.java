@@ -17,9 +17,7 @@
 package com.saadahmedev.base.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.saadahmedev.base.exception.exception.ApiException;
+import com.saadahmedev.base.util.JsonUtil;
 import jakarta.annotation.Nonnull;
 
 /**
@@ -72,10 +70,6 @@ public class LoginResponse extends ApiResponse {
 
     @Override
     public String toString() {
-        try {
-            return new ObjectMapper().writeValueAsString(this);
-        } catch (JsonProcessingException exception) {
-            throw new ApiException(exception);
-        }
+        return JsonUtil.toJson(this);
     }
 }
\ No newline at end of file
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.entity;
+
+import com.saadahmedev.base.projection.BaseProjection;
+import com.saadahmedev.base.security.service.TokenPrincipal;
+import com.saadahmedev.base.util.DateUtil;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * Audit Listener Class
+ *
+ * <p>
+ * A JPA entity listener filling the audit fields of a {@link CompactEntity} (and the stored dates of a
+ * {@link BaseEntity}) or of a {@link LongIdEntity}, where a zero time or creator counts as not set, so that services no longer pass them around. Before an entity is inserted, the
+ * creation and update time, dates and users that are still null are set; before it is updated, the update
+ * time, date and user are set. Register it on the entities that should be audited:
+ * </p>
+ *
+ * <pre>{@code
+ * @Entity
+ * @EntityListeners(AuditListener.class)
+ * public class User extends BaseEntity<Long> {
+ * }
+ * }</pre>
+ *
+ * <p>
+ * The user is resolved by the {@link AuditorAware} bean of the application, which Spring injects since Spring Boot
+ * lets Hibernate create entity listeners as beans. Without such a bean, or outside a Spring container, the identifier
+ * of the authenticated principal is used: the {@link TokenPrincipal} set by
+ * {@link com.saadahmedev.base.security.filter.BaseAuthenticationFilter} in stateless mode, or the {@code UserDetails}
+ * loaded otherwise when it is itself an entity or a {@link BaseProjection}. Declare an {@link AuditorAware} bean when
+ * the {@code UserDetails} carry no identifier. An identifier that is not of the identifier type of the entity is not
+ * assigned, and a warning is logged instead.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class AuditListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditListener.class);
+
+    private static final AuditorAware<Object> PRINCIPAL_AUDITOR = AuditListener::getPrincipalId;
+
+    private static final ClassValue<Class<?>> ID_TYPES = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(@Nonnull Class<?> type) {
+            if (LongIdEntity.class.isAssignableFrom(type)) return Long.class;
+
+            Class<?> idType = ResolvableType.forClass(type).as(CompactEntity.class).resolveGeneric(0);
+            return idType != null ? idType : Serializable.class;
+        }
+    };
+
+    @Nullable
+    private final ObjectProvider<AuditorAware<?>> auditorAwareProvider;
+
+    @Nullable
+    private volatile AuditorAware<?> auditorAware;
+
+    /**
+     * Constructs an AuditListener resolving the user from the authenticated principal, used when Hibernate creates
+     * the listener outside a Spring container.
+     */
+    public AuditListener() {
+        this.auditorAwareProvider = null;
+        this.auditorAware = PRINCIPAL_AUDITOR;
+    }
+
+    /**
+     * Constructs an AuditListener resolving the user with the {@link AuditorAware} bean of the application, if any.
+     * The bean is looked up on first use, so that it may depend on repositories.
+     *
+     * @param auditorAwareProvider The provider of the {@link AuditorAware} bean.
+     */
+    @Autowired
+    public AuditListener(@Nonnull ObjectProvider<AuditorAware<?>> auditorAwareProvider) {
+        this.auditorAwareProvider = auditorAwareProvider;
+    }
+
+    /**
+     * Fills the creation and update fields of an entity about to be inserted, keeping the values already set.
+     *
+     * @param entity The entity about to be inserted.
+     */
+    @PrePersist
+    public void prePersist(Object entity) {
+        if (entity instanceof LongIdEntity longIdEntity) {
+            prePersist(longIdEntity);
+            return;
+        }
+        if (!(entity instanceof CompactEntity<?> compactEntity)) return;
+
+        long now = System.currentTimeMillis();
+        Object auditor = getCurrentAuditor();
+
+        if (compactEntity.getCreatedTime() == null) compactEntity.setCreatedTime(now);
+        if (compactEntity.getUpdatedTime() == null) compactEntity.setUpdatedTime(compactEntity.getCreatedTime());
+        if (compactEntity.getCreatedById() == null && auditor != null) setCreatedById(compactEntity, auditor);
+        if (compactEntity.getUpdatedById() == null && auditor != null) setUpdatedById(compactEntity, auditor);
+
+        if (entity instanceof BaseEntity<?> baseEntity) {
+            if (baseEntity.getCreatedDate() == null) baseEntity.setCreatedDate(DateUtil.getInstant(baseEntity.getCreatedTime()));
+            if (baseEntity.getUpdatedDate() == null) baseEntity.setUpdatedDate(DateUtil.getInstant(baseEntity.getUpdatedTime()));
+        }
+    }
+
+    /**
+     * Stamps the update fields of an entity about to be updated. The update user is kept when no user is authenticated.
+     *
+     * @param entity The entity about to be updated.
+     */
+    @PreUpdate
+    public void preUpdate(Object entity) {
+        if (entity instanceof LongIdEntity longIdEntity) {
+            Long auditor = asLongId(longIdEntity, getCurrentAuditor());
+            longIdEntity.setUpdatedTime(System.currentTimeMillis());
+            if (auditor != null) longIdEntity.setUpdatedById(auditor);
+            return;
+        }
+        if (!(entity instanceof CompactEntity<?> compactEntity)) return;
+
+        long now = System.currentTimeMillis();
+        Object auditor = getCurrentAuditor();
+
+        compactEntity.setUpdatedTime(now);
+        if (auditor != null) setUpdatedById(compactEntity, auditor);
+        if (entity instanceof BaseEntity<?> baseEntity) baseEntity.setUpdatedDate(DateUtil.format(now));
+    }
+
+    /**
+     * Fills the creation and update fields of a {@link LongIdEntity} about to be inserted, keeping the values already set.
+     *
+     * @param entity The entity about to be inserted.
+     */
+    private void prePersist(@Nonnull LongIdEntity entity) {
+        Long auditor = asLongId(entity, getCurrentAuditor());
+
+        if (entity.getCreatedTime() == 0) entity.setCreatedTime(System.currentTimeMillis());
+        if (entity.getUpdatedTime() == 0) entity.setUpdatedTime(entity.getCreatedTime());
+        if (entity.getCreatedById() == 0 && auditor != null) entity.setCreatedById(auditor);
+        if (entity.getUpdatedById() == null && auditor != null) entity.setUpdatedById(auditor);
+    }
+
+    /**
+     * Gets the identifier of the current user with the {@link AuditorAware} bean, or from the authenticated principal.
+     *
+     * @return The identifier of the current user, or null if no user is authenticated.
+     */
+    @Nullable
+    private Object getCurrentAuditor() {
+        AuditorAware<?> resolved = auditorAware;
+        if (resolved == null) {
+            resolved = auditorAwareProvider.getIfUnique(() -> PRINCIPAL_AUDITOR);
+            auditorAware = resolved;
+        }
+
+        return resolved.getCurrentAuditor().orElse(null);
+    }
+
+    /**
+     * Reads the identifier of the authenticated principal.
+     *
+     * @return The identifier of the principal, or empty if no user is authenticated or the principal has no known identifier.
+     */
+    @Nonnull
+    private static Optional<Object> getPrincipalId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) return Optional.empty();
+
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof TokenPrincipal<?> tokenPrincipal) return Optional.ofNullable(tokenPrincipal.getId());
+        if (principal instanceof CompactEntity<?> compactEntity) return Optional.ofNullable(compactEntity.getId());
+        if (principal instanceof BaseProjection<?> projection) return Optional.ofNullable(projection.getId());
+        return Optional.empty();
+    }
+
+    /**
+     * Sets the creator of an entity, whose identifier type is only known at runtime.
+     *
+     * @param entity The entity to update.
+     * @param id     The identifier of the user who created the entity.
+     * @param <I>    The type representing the identifier for entities.
+     */
+    private static <I extends Serializable> void setCreatedById(@Nonnull CompactEntity<I> entity, @Nonnull Object id) {
+        I auditor = asIdType(entity, id);
+        if (auditor != null) entity.setCreatedById(auditor);
+    }
+
+    /**
+     * Sets the last updater of an entity, whose identifier type is only known at runtime.
+     *
+     * @param entity The entity to update.
+     * @param id     The identifier of the user who updated the entity.
+     * @param <I>    The type representing the identifier for entities.
+     */
+    private static <I extends Serializable> void setUpdatedById(@Nonnull CompactEntity<I> entity, @Nonnull Object id) {
+        I auditor = asIdType(entity, id);
+        if (auditor != null) entity.setUpdatedById(auditor);
+    }
+
+    /**
+     * Checks the identifier of the current user against the identifier type the entity is declared with.
+     *
+     * @param entity The entity to update.
+     * @param id     The identifier of the current user.
+     * @param <I>    The type representing the identifier for entities.
+     * @return The identifier of the current user, or null if it is not of the identifier type of the entity.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <I extends Serializable> I asIdType(@Nonnull CompactEntity<I> entity, @Nonnull Object id) {
+        return (I) checkIdType(entity, id);
+    }
+
+    /**
+     * Checks the identifier of the current user against the {@code Long} identifiers of a {@link LongIdEntity}.
+     *
+     * @param entity The entity to update.
+     * @param id     The identifier of the current user, or null if no user is authenticated.
+     * @return The identifier of the current user, or null if there is none or it is not a {@code Long}.
+     */
+    @Nullable
+    private static Long asLongId(@Nonnull LongIdEntity entity, @Nullable Object id) {
+        return id == null ? null : (Long) checkIdType(entity, id);
+    }
+
+    /**
+     * Checks an identifier against the identifier type of an entity, logging a warning when it does not match.
+     *
+     * @param entity The entity to update.
+     * @param id     The identifier of the current user.
+     * @return The identifier, or null if it is not of the identifier type of the entity.
+     */
+    @Nullable
+    private static Object checkIdType(@Nonnull Object entity, @Nonnull Object id) {
+        Class<?> idType = ID_TYPES.get(entity.getClass());
+        if (idType.isInstance(id)) return id;
+
+        LOGGER.warn("Skipping audit user of {}: identifier {} is not a {}", entity.getClass().getName(), id.getClass().getName(), idType.getName());
+        return null;
+    }
+}
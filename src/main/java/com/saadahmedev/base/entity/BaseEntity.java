@@ -19,7 +19,8 @@ package com.saadahmedev.base.entity;
 import com.saadahmedev.base.util.DateUtil;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
-import jakarta.persistence.*;
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
 
 import java.io.Serializable;
 
@@ -30,7 +31,8 @@ import java.io.Serializable;
  * Represents the foundational structure for entities within the application.
  * Provides common fields such as identifier, creation and update timestamps,
  * creation and update dates, and identifiers for the user who created and
- * last updated the entity.
+ * last updated the entity. Unlike {@link CompactEntity}, the creation and update
+ * dates are stored as formatted strings next to the timestamps.
  * </p>
  *
  * @param <I> The type representing the identifier for entities.
@@ -38,28 +40,18 @@ import java.io.Serializable;
  * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
  */
 @MappedSuperclass
-public abstract class BaseEntity<I extends Serializable> {
+public abstract class BaseEntity<I extends Serializable> extends CompactEntity<I> {
 
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    protected I id;
-
-    @Column(nullable = false)
-    private Long createdTime;
-    @Column(nullable = false)
-    private Long updatedTime;
     @Column(nullable = false, length = 24)
     private String createdDate;
     @Column(nullable = false, length = 24)
     private String updatedDate;
-    @Column(nullable = false)
-    private I createdById;
-    private I updatedById;
 
     /**
      * Default constructor for BaseEntity.
      */
     protected BaseEntity() {
+        super();
     }
 
     /**
@@ -71,66 +63,20 @@ public abstract class BaseEntity<I extends Serializable> {
      * @param updatedById The identifier of the user who last updated the entity.
      */
     public BaseEntity(@Nonnull Long createdTime, @Nullable Long updatedTime, @Nonnull I createdById, @Nullable I updatedById) {
-        this.createdTime = createdTime;
-        this.updatedTime = updatedTime;
+        super(createdTime, updatedTime, createdById, updatedById);
         this.createdDate = DateUtil.getInstant(createdTime);
         this.updatedDate = DateUtil.getInstant(updatedTime);
-        this.createdById = createdById;
-        this.updatedById = updatedById;
-    }
-
-    /**
-     * Get the identifier of the BaseEntity.
-     *
-     * @return The identifier of the BaseEntity.
-     */
-    public I getId() {
-        return id;
-    }
-
-    /**
-     * Set the identifier of the BaseEntity.
-     *
-     * @param id The new identifier to set for the BaseEntity.
-     */
-    public void setId(I id) {
-        this.id = id;
-    }
-
-    /**
-     * Get the timestamp representing the creation time of the BaseEntity.
-     *
-     * @return The creation timestamp of the BaseEntity.
-     */
-    public Long getCreatedTime() {
-        return createdTime;
-    }
-
-    /**
-     * Set the timestamp representing the creation time of the BaseEntity.
-     *
-     * @param createdTime The new creation timestamp to set for the BaseEntity.
-     */
-    public void setCreatedTime(@Nonnull Long createdTime) {
-        this.createdTime = createdTime;
-    }
-
-    /**
-     * Get the timestamp representing the last update time of the BaseEntity.
-     *
-     * @return The last update timestamp of the BaseEntity.
-     */
-    public Long getUpdatedTime() {
-        return updatedTime;
     }
 
     /**
-     * Set the timestamp representing the last update time of the BaseEntity.
+     * Marks the BaseEntity as updated now by the given user, setting the update time, date and user at once.
      *
-     * @param updatedTime The new last update timestamp to set for the BaseEntity.
+     * @param updatedById The identifier of the user who updated the entity.
      */
-    public void setUpdatedTime(@Nonnull Long updatedTime) {
-        this.updatedTime = updatedTime;
+    @Override
+    public void touch(@Nullable I updatedById) {
+        super.touch(updatedById);
+        this.updatedDate = DateUtil.getInstant(getUpdatedTime());
     }
 
     /**
@@ -138,6 +84,7 @@ public abstract class BaseEntity<I extends Serializable> {
      *
      * @return The creation date of the BaseEntity.
      */
+    @Override
     public String getCreatedDate() {
         return createdDate;
     }
@@ -156,6 +103,7 @@ public abstract class BaseEntity<I extends Serializable> {
      *
      * @return The last update date of the BaseEntity.
      */
+    @Override
     public String getUpdatedDate() {
         return updatedDate;
     }
@@ -168,40 +116,4 @@ public abstract class BaseEntity<I extends Serializable> {
     public void setUpdatedDate(@Nonnull String updatedDate) {
         this.updatedDate = updatedDate;
     }
-
-    /**
-     * Get the identifier of the user who created the BaseEntity.
-     *
-     * @return The identifier of the user who created the BaseEntity.
-     */
-    public I getCreatedById() {
-        return createdById;
-    }
-
-    /**
-     * Set the identifier of the user who created the BaseEntity.
-     *
-     * @param createdById The new identifier of the user who created the BaseEntity.
-     */
-    public void setCreatedById(@Nonnull I createdById) {
-        this.createdById = createdById;
-    }
-
-    /**
-     * Get the identifier of the user who last updated the BaseEntity.
-     *
-     * @return The identifier of the user who last updated the BaseEntity.
-     */
-    public I getUpdatedById() {
-        return updatedById;
-    }
-
-    /**
-     * Set the identifier of the user who last updated the BaseEntity.
-     *
-     * @param updatedById The new identifier of the user who last updated the BaseEntity.
-     */
-    public void setUpdatedById(@Nonnull I updatedById) {
-        this.updatedById = updatedById;
-    }
 }
\ No newline at end of file
@@ -36,12 +36,13 @@ import java.io.Serializable;
  * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
  */
 @MappedSuperclass
-public abstract class BaseSecuredEntity<I extends Serializable> extends BaseEntity<I> {
+public abstract class BaseSecuredEntity<I extends Serializable> extends BaseEntity<I> implements SecuredEntity {
 
     private Boolean isDeleted;
     private Boolean isActive;
     private Boolean isExpired;
     private Boolean isLocked;
+    private Long deletedTime;
 
     /**
      * Default constructor for BaseSecuredEntity.
@@ -65,6 +66,7 @@ public abstract class BaseSecuredEntity<I extends Serializable> extends BaseEnti
     public BaseSecuredEntity(@Nonnull Long createdTime, @Nullable Long updatedTime, @Nonnull I createdById, @Nullable I updatedById, @Nonnull Boolean isDeleted, @Nonnull Boolean isActive, @Nonnull Boolean isExpired, @Nonnull Boolean isLocked) {
         super(createdTime, updatedTime, createdById, updatedById);
         this.isDeleted = isDeleted;
+        this.deletedTime = isDeleted ? System.currentTimeMillis() : null;
         this.isActive = isActive;
         this.isExpired = isExpired;
         this.isLocked = isLocked;
@@ -75,24 +77,41 @@ public abstract class BaseSecuredEntity<I extends Serializable> extends BaseEnti
      *
      * @return True if the entity is marked as deleted, false otherwise.
      */
+    @Override
     public Boolean getDeleted() {
         return isDeleted;
     }
 
     /**
-     * Set the deletion status of the BaseSecuredEntity.
+     * Set the deletion status of the BaseSecuredEntity, recording the deletion time when it is marked as deleted
+     * and clearing it when it is restored.
      *
      * @param deleted The new deletion status to set for the BaseSecuredEntity.
      */
+    @Override
     public void setDeleted(@Nonnull Boolean deleted) {
+        if (!deleted) deletedTime = null;
+        else if (!Boolean.TRUE.equals(isDeleted)) deletedTime = System.currentTimeMillis();
         isDeleted = deleted;
     }
 
+    /**
+     * Get the time the BaseSecuredEntity was marked as deleted. It is kept apart from the update time, which later
+     * updates of the deleted row still change, so that purging deleted rows is never postponed.
+     *
+     * @return The deletion time in milliseconds since the epoch, or null if the entity is not deleted.
+     */
+    @Override
+    public Long getDeletedTime() {
+        return deletedTime;
+    }
+
     /**
      * Get the activation status of the BaseSecuredEntity.
      *
      * @return True if the entity is active, false otherwise.
      */
+    @Override
     public Boolean getActive() {
         return isActive;
     }
@@ -111,6 +130,7 @@ public abstract class BaseSecuredEntity<I extends Serializable> extends BaseEnti
      *
      * @return True if the entity is expired, false otherwise.
      */
+    @Override
     public Boolean getExpired() {
         return isExpired;
     }
@@ -129,6 +149,7 @@ public abstract class BaseSecuredEntity<I extends Serializable> extends BaseEnti
      *
      * @return True if the entity is locked, false otherwise.
      */
+    @Override
     public Boolean getLocked() {
         return isLocked;
     }
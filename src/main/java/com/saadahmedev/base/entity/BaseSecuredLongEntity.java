@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.entity;
+
+import com.saadahmedev.base.projection.BaseSecuredProjection;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+
+/**
+ * Abstract Base Secured Long Entity Class
+ *
+ * <p>
+ * Extends the LongIdEntity class with the isDeleted, isActive, isExpired and isLocked flags,
+ * packed into a single {@code flags} bitmask column instead of four boolean columns. The entity
+ * implements {@link BaseSecuredProjection}, so it can be returned wherever such a projection is
+ * expected. In queries, test a flag with the bit constants, for example
+ * {@code where bitand(e.flags, 1) = 0} for the entities that are not deleted. The flags are exposed as the
+ * {@code isDeleted}, {@code isActive}, {@code isExpired} and {@code isLocked} properties, with matching getters
+ * and setters, so that they serialize and bind like the flags of {@link BaseSecuredEntity}.
+ * </p>
+ *
+ * <p>
+ * The bitmask saves three columns at the cost of indexing. A bit test cannot use an ordinary index on the
+ * column, so the flags cannot be filtered the way separate columns are. The entity does not work with
+ * {@link com.saadahmedev.base.repository.SoftDeleteRepository}, whose queries test the {@code isDeleted}
+ * attribute. It cannot be matched by the criteria of {@link com.saadahmedev.base.util.BatchUtil#updateWhere},
+ * which compare whole attributes, so {@code flags} only matches an exact combination of bits. A partial index
+ * over the rows that are not deleted is not available either. Prefer {@link BaseSecuredEntity} or
+ * {@link CompactSecuredEntity} for tables that are mostly queried by these flags.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@MappedSuperclass
+public abstract class BaseSecuredLongEntity extends LongIdEntity implements BaseSecuredProjection<Long> {
+
+    /**
+     * The bit of the flags set when the entity is marked as deleted.
+     */
+    public static final int DELETED = 1;
+
+    /**
+     * The bit of the flags set when the entity is active.
+     */
+    public static final int ACTIVE = 1 << 1;
+
+    /**
+     * The bit of the flags set when the entity is expired.
+     */
+    public static final int EXPIRED = 1 << 2;
+
+    /**
+     * The bit of the flags set when the entity is locked.
+     */
+    public static final int LOCKED = 1 << 3;
+
+    @Column(nullable = false)
+    private int flags;
+
+    /**
+     * Default constructor for BaseSecuredLongEntity.
+     */
+    protected BaseSecuredLongEntity() {
+        super();
+    }
+
+    /**
+     * Parameterized constructor for BaseSecuredLongEntity.
+     *
+     * @param createdTime The timestamp representing the creation time of the entity.
+     * @param updatedTime The timestamp representing the last update time of the entity.
+     * @param createdById The identifier of the user who created the entity.
+     * @param updatedById The identifier of the user who last updated the entity.
+     * @param isDeleted   The flag indicating whether the entity is marked as deleted.
+     * @param isActive    The flag indicating whether the entity is active.
+     * @param isExpired   The flag indicating whether the entity is expired.
+     * @param isLocked    The flag indicating whether the entity is locked.
+     */
+    public BaseSecuredLongEntity(long createdTime, long updatedTime, long createdById, @Nullable Long updatedById, boolean isDeleted, boolean isActive, boolean isExpired, boolean isLocked) {
+        super(createdTime, updatedTime, createdById, updatedById);
+        this.flags = (isDeleted ? DELETED : 0) | (isActive ? ACTIVE : 0) | (isExpired ? EXPIRED : 0) | (isLocked ? LOCKED : 0);
+    }
+
+    /**
+     * Get the deletion status of the BaseSecuredLongEntity.
+     *
+     * @return True if the entity is marked as deleted, false otherwise.
+     */
+    @Override
+    public Boolean getIsDeleted() {
+        return hasFlag(DELETED);
+    }
+
+    /**
+     * Set the deletion status of the BaseSecuredLongEntity.
+     *
+     * @param deleted The new deletion status to set for the BaseSecuredLongEntity.
+     */
+    public void setIsDeleted(boolean deleted) {
+        setFlag(DELETED, deleted);
+    }
+
+    /**
+     * Get the activation status of the BaseSecuredLongEntity.
+     *
+     * @return True if the entity is active, false otherwise.
+     */
+    @Override
+    public Boolean getIsActive() {
+        return hasFlag(ACTIVE);
+    }
+
+    /**
+     * Set the activation status of the BaseSecuredLongEntity.
+     *
+     * @param active The new activation status to set for the BaseSecuredLongEntity.
+     */
+    public void setIsActive(boolean active) {
+        setFlag(ACTIVE, active);
+    }
+
+    /**
+     * Get the expiration status of the BaseSecuredLongEntity.
+     *
+     * @return True if the entity is expired, false otherwise.
+     */
+    @Override
+    public Boolean getIsExpired() {
+        return hasFlag(EXPIRED);
+    }
+
+    /**
+     * Set the expiration status of the BaseSecuredLongEntity.
+     *
+     * @param expired The new expiration status to set for the BaseSecuredLongEntity.
+     */
+    public void setIsExpired(boolean expired) {
+        setFlag(EXPIRED, expired);
+    }
+
+    /**
+     * Get the lock status of the BaseSecuredLongEntity.
+     *
+     * @return True if the entity is locked, false otherwise.
+     */
+    @Override
+    public Boolean getIsLocked() {
+        return hasFlag(LOCKED);
+    }
+
+    /**
+     * Set the lock status of the BaseSecuredLongEntity.
+     *
+     * @param locked The new lock status to set for the BaseSecuredLongEntity.
+     */
+    public void setIsLocked(boolean locked) {
+        setFlag(LOCKED, locked);
+    }
+
+    /**
+     * Checks whether the given bit of the flags is set.
+     *
+     * @param bit The bit to check.
+     * @return True if the bit is set, false otherwise.
+     */
+    private boolean hasFlag(int bit) {
+        return (flags & bit) != 0;
+    }
+
+    /**
+     * Sets or clears the given bit of the flags.
+     *
+     * @param bit   The bit to change.
+     * @param value True to set the bit, false to clear it.
+     */
+    private void setFlag(int bit, boolean value) {
+        flags = value ? flags | bit : flags & ~bit;
+    }
+}
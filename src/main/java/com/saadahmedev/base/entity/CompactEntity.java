@@ -0,0 +1,246 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.entity;
+
+import com.saadahmedev.base.entity.id.EntityIdGenerator;
+import com.saadahmedev.base.util.DateUtil;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.beans.Introspector;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Abstract Compact Entity Class
+ *
+ * <p>
+ * Represents the foundational structure for entities that store their creation and update
+ * times only as epoch milliseconds. The creation and update dates are derived from these
+ * times when they are read, for example when the entity is serialized, so every row saves
+ * two text columns and no date is formatted on the write path. {@link BaseEntity} extends
+ * this class and stores the formatted dates as well.
+ * </p>
+ *
+ * <p>
+ * The identifier is generated by an identity column of the database, unless the entity
+ * selects another strategy with {@link com.saadahmedev.base.entity.id.IdGeneration}.
+ * </p>
+ *
+ * @param <I> The type representing the identifier for entities.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@MappedSuperclass
+public abstract class CompactEntity<I extends Serializable> {
+
+    private static final ClassValue<Set<String>> PROTECTED_PROPERTIES = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(@Nonnull Class<?> type) {
+            Set<String> properties = new HashSet<>();
+            for (Class<?> base = type; base != null; base = base.getSuperclass()) {
+                if (!base.getPackageName().equals(CompactEntity.class.getPackageName())) continue;
+
+                for (Field field : base.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) properties.add(field.getName());
+                }
+                for (Method method : base.getDeclaredMethods()) {
+                    if (Modifier.isStatic(method.getModifiers())) continue;
+                    String name = method.getName();
+                    int prefix = name.startsWith("get") || name.startsWith("set") ? 3 : name.startsWith("is") ? 2 : 0;
+                    if (prefix > 0 && name.length() > prefix) properties.add(Introspector.decapitalize(name.substring(prefix)));
+                }
+            }
+            return Set.copyOf(properties);
+        }
+    };
+
+    /**
+     * The identifier of the entity, generated on insert according to the {@link com.saadahmedev.base.entity.id.IdGeneration} of the entity.
+     */
+    @Id
+    @GeneratedValue(generator = "base-entity-id")
+    @GenericGenerator(name = "base-entity-id", type = EntityIdGenerator.class)
+    protected I id;
+
+    @Column(nullable = false)
+    private Long createdTime;
+    @Column(nullable = false)
+    private Long updatedTime;
+    @Column(nullable = false)
+    private I createdById;
+    private I updatedById;
+
+    /**
+     * Default constructor for CompactEntity.
+     */
+    protected CompactEntity() {
+    }
+
+    /**
+     * Parameterized constructor for CompactEntity.
+     *
+     * @param createdTime The timestamp representing the creation time of the entity.
+     * @param updatedTime The timestamp representing the last update time of the entity.
+     * @param createdById The identifier of the user who created the entity.
+     * @param updatedById The identifier of the user who last updated the entity.
+     */
+    public CompactEntity(@Nonnull Long createdTime, @Nullable Long updatedTime, @Nonnull I createdById, @Nullable I updatedById) {
+        this.createdTime = createdTime;
+        this.updatedTime = updatedTime;
+        this.createdById = createdById;
+        this.updatedById = updatedById;
+    }
+
+    /**
+     * Gets the names of the properties the base entity classes of this package declare for the given type: the
+     * identifier, audit, version and security flag properties of a {@link CompactEntity} or a {@link LongIdEntity}
+     * and their subclasses, under both their field and their accessor names. These properties are managed by the
+     * application and must not be written from request data. Properties declared by the entity itself are not included.
+     *
+     * @param type The entity type.
+     * @return The names of the protected properties, empty if the type does not extend a base entity.
+     */
+    @Nonnull
+    public static Set<String> getProtectedProperties(@Nonnull Class<?> type) {
+        return PROTECTED_PROPERTIES.get(type);
+    }
+
+    /**
+     * Marks the entity as updated now by the given user, setting the update time and user at once.
+     *
+     * @param updatedById The identifier of the user who updated the entity.
+     */
+    public void touch(@Nullable I updatedById) {
+        this.updatedTime = System.currentTimeMillis();
+        this.updatedById = updatedById;
+    }
+
+    /**
+     * Get the identifier of the entity.
+     *
+     * @return The identifier of the entity.
+     */
+    public I getId() {
+        return id;
+    }
+
+    /**
+     * Set the identifier of the entity.
+     *
+     * @param id The new identifier to set for the entity.
+     */
+    public void setId(I id) {
+        this.id = id;
+    }
+
+    /**
+     * Get the timestamp representing the creation time of the entity.
+     *
+     * @return The creation timestamp of the entity.
+     */
+    public Long getCreatedTime() {
+        return createdTime;
+    }
+
+    /**
+     * Set the timestamp representing the creation time of the entity.
+     *
+     * @param createdTime The new creation timestamp to set for the entity.
+     */
+    public void setCreatedTime(@Nonnull Long createdTime) {
+        this.createdTime = createdTime;
+    }
+
+    /**
+     * Get the timestamp representing the last update time of the entity.
+     *
+     * @return The last update timestamp of the entity.
+     */
+    public Long getUpdatedTime() {
+        return updatedTime;
+    }
+
+    /**
+     * Set the timestamp representing the last update time of the entity.
+     *
+     * @param updatedTime The new last update timestamp to set for the entity.
+     */
+    public void setUpdatedTime(@Nonnull Long updatedTime) {
+        this.updatedTime = updatedTime;
+    }
+
+    /**
+     * Get the creation date of the entity, derived from its creation time.
+     *
+     * @return The creation date of the entity.
+     */
+    public String getCreatedDate() {
+        return DateUtil.getInstant(createdTime);
+    }
+
+    /**
+     * Get the last update date of the entity, derived from its last update time.
+     *
+     * @return The last update date of the entity.
+     */
+    public String getUpdatedDate() {
+        return DateUtil.getInstant(updatedTime);
+    }
+
+    /**
+     * Get the identifier of the user who created the entity.
+     *
+     * @return The identifier of the user who created the entity.
+     */
+    public I getCreatedById() {
+        return createdById;
+    }
+
+    /**
+     * Set the identifier of the user who created the entity.
+     *
+     * @param createdById The new identifier of the user who created the entity.
+     */
+    public void setCreatedById(@Nonnull I createdById) {
+        this.createdById = createdById;
+    }
+
+    /**
+     * Get the identifier of the user who last updated the entity.
+     *
+     * @return The identifier of the user who last updated the entity.
+     */
+    public I getUpdatedById() {
+        return updatedById;
+    }
+
+    /**
+     * Set the identifier of the user who last updated the entity.
+     *
+     * @param updatedById The new identifier of the user who last updated the entity.
+     */
+    public void setUpdatedById(@Nonnull I updatedById) {
+        this.updatedById = updatedById;
+    }
+}
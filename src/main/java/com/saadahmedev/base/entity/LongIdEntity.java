@@ -0,0 +1,208 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.entity;
+
+import com.saadahmedev.base.entity.id.EntityIdGenerator;
+import com.saadahmedev.base.projection.BaseProjection;
+import com.saadahmedev.base.util.DateUtil;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+
+/**
+ * Abstract Long Id Entity Class
+ *
+ * <p>
+ * A specialization of {@link CompactEntity} for {@code long} identifiers, storing the identifier, the
+ * timestamps and the creator in primitive fields, so that loading a row does not allocate a wrapper per
+ * field. Only the identifier of the last updater stays boxed, since it is null until the first update.
+ * The creation and update dates are derived from the timestamps when they are read. The entity implements
+ * {@link BaseProjection}, so it can be returned wherever such a projection is expected.
+ * </p>
+ *
+ * <p>
+ * The identifier is generated by an identity column of the database, unless the entity
+ * selects another strategy with {@link com.saadahmedev.base.entity.id.IdGeneration}.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@MappedSuperclass
+public abstract class LongIdEntity implements BaseProjection<Long> {
+
+    /**
+     * The identifier of the entity, generated on insert according to the {@link com.saadahmedev.base.entity.id.IdGeneration} of the entity, or zero before it is persisted.
+     */
+    @Id
+    @GeneratedValue(generator = "base-entity-id")
+    @GenericGenerator(name = "base-entity-id", type = EntityIdGenerator.class)
+    protected long id;
+
+    @Column(nullable = false)
+    private long createdTime;
+    @Column(nullable = false)
+    private long updatedTime;
+    @Column(nullable = false)
+    private long createdById;
+    private Long updatedById;
+
+    /**
+     * Default constructor for LongIdEntity.
+     */
+    protected LongIdEntity() {
+    }
+
+    /**
+     * Parameterized constructor for LongIdEntity.
+     *
+     * @param createdTime The timestamp representing the creation time of the entity.
+     * @param updatedTime The timestamp representing the last update time of the entity.
+     * @param createdById The identifier of the user who created the entity.
+     * @param updatedById The identifier of the user who last updated the entity.
+     */
+    public LongIdEntity(long createdTime, long updatedTime, long createdById, @Nullable Long updatedById) {
+        this.createdTime = createdTime;
+        this.updatedTime = updatedTime;
+        this.createdById = createdById;
+        this.updatedById = updatedById;
+    }
+
+    /**
+     * Marks the entity as updated now by the given user, setting the update time and user at once.
+     *
+     * @param updatedById The identifier of the user who updated the entity.
+     */
+    public void touch(@Nullable Long updatedById) {
+        this.updatedTime = System.currentTimeMillis();
+        this.updatedById = updatedById;
+    }
+
+    /**
+     * Get the identifier of the entity.
+     *
+     * @return The identifier of the entity.
+     */
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Set the identifier of the entity.
+     *
+     * @param id The new identifier to set for the entity.
+     */
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * Get the timestamp representing the creation time of the entity.
+     *
+     * @return The creation timestamp of the entity.
+     */
+    @Override
+    public Long getCreatedTime() {
+        return createdTime;
+    }
+
+    /**
+     * Set the timestamp representing the creation time of the entity.
+     *
+     * @param createdTime The new creation timestamp to set for the entity.
+     */
+    public void setCreatedTime(long createdTime) {
+        this.createdTime = createdTime;
+    }
+
+    /**
+     * Get the timestamp representing the last update time of the entity.
+     *
+     * @return The last update timestamp of the entity.
+     */
+    @Override
+    public Long getUpdatedTime() {
+        return updatedTime;
+    }
+
+    /**
+     * Set the timestamp representing the last update time of the entity.
+     *
+     * @param updatedTime The new last update timestamp to set for the entity.
+     */
+    public void setUpdatedTime(long updatedTime) {
+        this.updatedTime = updatedTime;
+    }
+
+    /**
+     * Get the creation date of the entity, derived from its creation time.
+     *
+     * @return The creation date of the entity.
+     */
+    @Override
+    public String getCreatedDate() {
+        return DateUtil.format(createdTime);
+    }
+
+    /**
+     * Get the last update date of the entity, derived from its last update time.
+     *
+     * @return The last update date of the entity.
+     */
+    @Override
+    public String getUpdatedDate() {
+        return DateUtil.format(updatedTime);
+    }
+
+    /**
+     * Get the identifier of the user who created the entity.
+     *
+     * @return The identifier of the user who created the entity.
+     */
+    @Override
+    public Long getCreatedById() {
+        return createdById;
+    }
+
+    /**
+     * Set the identifier of the user who created the entity.
+     *
+     * @param createdById The new identifier of the user who created the entity.
+     */
+    public void setCreatedById(long createdById) {
+        this.createdById = createdById;
+    }
+
+    /**
+     * Get the identifier of the user who last updated the entity.
+     *
+     * @return The identifier of the user who last updated the entity.
+     */
+    @Override
+    public Long getUpdatedById() {
+        return updatedById;
+    }
+
+    /**
+     * Set the identifier of the user who last updated the entity.
+     *
+     * @param updatedById The new identifier of the user who last updated the entity.
+     */
+    public void setUpdatedById(@Nullable Long updatedById) {
+        this.updatedById = updatedById;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.entity;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Secured Entity Interface
+ *
+ * <p>
+ * The security-related flags shared by {@link BaseSecuredEntity} and {@link CompactSecuredEntity}, so that
+ * both can be soft deleted with a {@link com.saadahmedev.base.repository.SoftDeleteRepository}.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public interface SecuredEntity {
+
+    /**
+     * Get the deletion status of the entity.
+     *
+     * @return True if the entity is marked as deleted, false otherwise.
+     */
+    Boolean getDeleted();
+
+    /**
+     * Set the deletion status of the entity, recording the deletion time when it is marked as deleted
+     * and clearing it when it is restored.
+     *
+     * @param deleted The new deletion status to set for the entity.
+     */
+    void setDeleted(@Nonnull Boolean deleted);
+
+    /**
+     * Get the time the entity was marked as deleted.
+     *
+     * @return The deletion time in milliseconds since the epoch, or null if the entity is not deleted.
+     */
+    Long getDeletedTime();
+
+    /**
+     * Get the activation status of the entity.
+     *
+     * @return True if the entity is active, false otherwise.
+     */
+    Boolean getActive();
+
+    /**
+     * Get the expiration status of the entity.
+     *
+     * @return True if the entity is expired, false otherwise.
+     */
+    Boolean getExpired();
+
+    /**
+     * Get the lock status of the entity.
+     *
+     * @return True if the entity is locked, false otherwise.
+     */
+    Boolean getLocked();
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.entity;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
+
+import java.io.Serializable;
+
+/**
+ * Abstract VersionedSecuredEntity Class
+ *
+ * <p>
+ * Extends the BaseSecuredEntity class with a {@link Version} column for optimistic locking. Hibernate increments
+ * the version on every update and rejects an update whose version no longer matches the row, so
+ * concurrent writers never overwrite each other without holding row locks. Conflicting updates are
+ * retried with {@link com.saadahmedev.base.service.OptimisticLockRetry}.
+ * </p>
+ *
+ * @param <I> The type representing the identifier for entities.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@MappedSuperclass
+public abstract class VersionedSecuredEntity<I extends Serializable> extends BaseSecuredEntity<I> {
+
+    @Version
+    private Long version;
+
+    /**
+     * Default constructor for VersionedSecuredEntity.
+     */
+    protected VersionedSecuredEntity() {
+        super();
+    }
+
+    /**
+     * Parameterized constructor for VersionedSecuredEntity.
+     *
+     * @param createdTime The timestamp representing the creation time of the entity.
+     * @param updatedTime The timestamp representing the last update time of the entity.
+     * @param createdById The identifier of the user who created the entity.
+     * @param updatedById The identifier of the user who last updated the entity.
+     * @param isDeleted   The flag indicating whether the entity is marked as deleted.
+     * @param isActive    The flag indicating whether the entity is active.
+     * @param isExpired   The flag indicating whether the entity is expired.
+     * @param isLocked    The flag indicating whether the entity is locked.
+     */
+    public VersionedSecuredEntity(@Nonnull Long createdTime, @Nullable Long updatedTime, @Nonnull I createdById, @Nullable I updatedById, @Nonnull Boolean isDeleted, @Nonnull Boolean isActive, @Nonnull Boolean isExpired, @Nonnull Boolean isLocked) {
+        super(createdTime, updatedTime, createdById, updatedById, isDeleted, isActive, isExpired, isLocked);
+    }
+
+    /**
+     * Get the version of the VersionedSecuredEntity, incremented on every update.
+     *
+     * @return The version of the VersionedSecuredEntity, or null if it was never persisted.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Set the version of the VersionedSecuredEntity. Hibernate manages the version, it is only set when copying a detached entity.
+     *
+     * @param version The new version to set for the VersionedSecuredEntity.
+     */
+    public void setVersion(@Nullable Long version) {
+        this.version = version;
+    }
+}
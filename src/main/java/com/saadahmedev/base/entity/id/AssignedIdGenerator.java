@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.entity.id;
+
+import org.hibernate.MappingException;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.Configurable;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serial;
+import java.util.EnumSet;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Assigned Id Generator Class
+ *
+ * <p>
+ * The Hibernate generator of the entities selecting {@link IdStrategy#TIME_ORDERED} or {@link IdStrategy#UUID_V7}
+ * with {@link IdGeneration}. It assigns the identifier before the insert, so that Hibernate can send the inserts
+ * as JDBC batches. {@link IdGenerationContributor} binds it in place of {@link EntityIdGenerator}; since it is not
+ * an identity generator, the generated schema declares a plain {@code bigint} or {@code uuid} primary key.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class AssignedIdGenerator implements BeforeExecutionGenerator, Configurable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The strategy of the entity, read from its {@link IdGeneration} annotation.
+     */
+    private IdStrategy strategy;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        String entityName = params.getProperty(IdentifierGenerator.ENTITY_NAME);
+        Class<?> entityClass = serviceRegistry.requireService(ClassLoaderService.class).classForName(entityName);
+        IdGeneration idGeneration = entityClass.getAnnotation(IdGeneration.class);
+        if (idGeneration == null || idGeneration.value() == IdStrategy.IDENTITY) {
+            throw new MappingException("Entity " + entityName + " must select an assigned strategy with @IdGeneration to use " + getClass().getSimpleName());
+        }
+
+        Class<?> idClass = idGeneration.value() == IdStrategy.UUID_V7 ? UUID.class : Long.class;
+        if (!idClass.equals(type.getReturnedClass())) {
+            throw new MappingException("Entity " + entityName + " must have a " + idClass.getSimpleName() + " identifier to use " + idGeneration.value());
+        }
+        this.strategy = idGeneration.value();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return strategy == IdStrategy.UUID_V7 ? TimeOrderedIdGenerator.nextUuid() : TimeOrderedIdGenerator.nextId();
+    }
+}
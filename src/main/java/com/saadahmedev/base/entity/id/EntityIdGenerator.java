@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.entity.id;
+
+import org.hibernate.MappingException;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.id.Configurable;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.IdentityGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serial;
+import java.util.Properties;
+
+/**
+ * Entity Id Generator Class
+ *
+ * <p>
+ * The Hibernate generator the {@link com.saadahmedev.base.entity.CompactEntity} identifier is mapped with. It
+ * behaves exactly like Hibernate's {@link IdentityGenerator}, so the identifier of an entity using
+ * {@link IdStrategy#IDENTITY} is generated by an identity column of the database. Entities selecting an assigned
+ * strategy with {@link IdGeneration} are rebound to {@link AssignedIdGenerator} by {@link IdGenerationContributor}
+ * and never reach this generator.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class EntityIdGenerator extends IdentityGenerator implements Configurable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        String entityName = params.getProperty(IdentifierGenerator.ENTITY_NAME);
+        if (entityName == null) return;
+
+        Class<?> entityClass = serviceRegistry.requireService(ClassLoaderService.class).classForName(entityName);
+        IdGeneration idGeneration = entityClass.getAnnotation(IdGeneration.class);
+        if (idGeneration != null && idGeneration.value() != IdStrategy.IDENTITY) {
+            throw new MappingException("Entity " + entityName + " uses " + idGeneration.value() + " but " + IdGenerationContributor.class.getSimpleName() + " is not registered");
+        }
+    }
+}
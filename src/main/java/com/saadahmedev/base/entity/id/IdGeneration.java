@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.entity.id;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Selects how the identifier of an entity extending {@link com.saadahmedev.base.entity.BaseEntity} is generated.
+ * Entities without this annotation keep using {@link IdStrategy#IDENTITY}. For example:
+ *
+ * <pre>{@code
+ * @Entity
+ * @IdGeneration(IdStrategy.TIME_ORDERED)
+ * public class Order extends BaseEntity<Long> {
+ * }
+ * }</pre>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface IdGeneration {
+
+    /**
+     * The strategy used to generate the identifier of the entity.
+     *
+     * @return The {@link IdStrategy} of the entity.
+     */
+    IdStrategy value();
+}
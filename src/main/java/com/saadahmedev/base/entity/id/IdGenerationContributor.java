@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.entity.id;
+
+import org.hibernate.boot.ResourceStreamLocator;
+import org.hibernate.boot.spi.AdditionalMappingContributions;
+import org.hibernate.boot.spi.AdditionalMappingContributor;
+import org.hibernate.boot.spi.InFlightMetadataCollector;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.RootClass;
+import org.hibernate.mapping.SimpleValue;
+
+/**
+ * Id Generation Contributor Class
+ *
+ * <p>
+ * The identifier of every {@link com.saadahmedev.base.entity.CompactEntity} is mapped once, on the mapped superclass,
+ * with {@link EntityIdGenerator}, and Hibernate derives from the generator class whether the primary key is an
+ * identity column. Once the entities are bound, and before the schema is generated or validated, this contributor
+ * rebinds the identifier of every entity selecting an assigned strategy with {@link IdGeneration} to
+ * {@link AssignedIdGenerator}, so that only {@link IdStrategy#IDENTITY} entities get an identity column.
+ * </p>
+ *
+ * <p>
+ * Hibernate discovers it through {@code META-INF/services/org.hibernate.boot.spi.AdditionalMappingContributor}.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class IdGenerationContributor implements AdditionalMappingContributor {
+
+    @Override
+    public String getContributorName() {
+        return "base-entity-id";
+    }
+
+    @Override
+    public void contribute(AdditionalMappingContributions contributions, InFlightMetadataCollector metadata, ResourceStreamLocator resourceStreamLocator, MetadataBuildingContext buildingContext) {
+        for (PersistentClass entity : metadata.getEntityBindings()) {
+            if (!(entity instanceof RootClass) || !(entity.getIdentifier() instanceof SimpleValue identifier)) continue;
+            if (!EntityIdGenerator.class.getName().equals(identifier.getIdentifierGeneratorStrategy())) continue;
+
+            IdGeneration idGeneration = entity.getMappedClass().getAnnotation(IdGeneration.class);
+            if (idGeneration != null && idGeneration.value() != IdStrategy.IDENTITY) {
+                identifier.setIdentifierGeneratorStrategy(AssignedIdGenerator.class.getName());
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.entity.id;
+
+/**
+ * Id Strategy Enum
+ *
+ * <p>
+ * The strategies available to generate the identifier of a {@link com.saadahmedev.base.entity.BaseEntity}.
+ * </p>
+ *
+ * @see IdGeneration
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public enum IdStrategy {
+
+    /**
+     * The identifier is generated by an identity (auto-increment) column of the database.
+     * Hibernate cannot batch the inserts of such entities, since every insert must return its key.
+     */
+    IDENTITY,
+
+    /**
+     * The identifier is a time-ordered 64-bit number (TSID) generated by the application before the insert,
+     * so that inserts can be sent as JDBC batches. Requires a {@code Long} identifier.
+     *
+     * @see TimeOrderedIdGenerator#nextId()
+     */
+    TIME_ORDERED,
+
+    /**
+     * The identifier is a time-ordered UUID version 7 generated by the application before the insert,
+     * so that inserts can be sent as JDBC batches. Requires a {@link java.util.UUID} identifier.
+     *
+     * @see TimeOrderedIdGenerator#nextUuid()
+     */
+    UUID_V7
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.entity.id;
+
+import jakarta.annotation.Nonnull;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time Ordered Id Generator Class
+ *
+ * <p>
+ * Generates unique, time-sortable identifiers in the application, without contacting the database and
+ * without locking. Identifiers generated by one instance are strictly increasing, so new rows are always
+ * appended at the end of the primary key index.
+ * </p>
+ *
+ * <p>
+ * The 64-bit identifiers are laid out like TSIDs: after the sign bit, 41 bits hold the milliseconds elapsed
+ * since 2024-01-01T00:00:00Z, 10 bits the node of the generating instance and 12 bits a per-millisecond
+ * sequence. When the sequence of a millisecond is exhausted the generator borrows the next millisecond.
+ * The node is read from the {@code base.id.node} system property, or chosen at random when the property
+ * is not set. Give every instance of a horizontally scaled application its own node, or call
+ * {@link #setNodeId(int)} at startup, to rule out collisions between instances.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class TimeOrderedIdGenerator {
+
+    /**
+     * The system property holding the node of this instance.
+     */
+    public static final String NODE_PROPERTY = "base.id.node";
+
+    /**
+     * The largest node that can be encoded in an identifier.
+     */
+    public static final int MAX_NODE_ID = 1023;
+
+    private static final long EPOCH = 1_704_067_200_000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int UUID_COUNTER_BITS = 12;
+
+    private static final AtomicLong lastId = new AtomicLong();
+    private static final AtomicLong lastUuid = new AtomicLong();
+    private static volatile long node = initialNode();
+
+    /**
+     * Generates the next 64-bit identifier.
+     *
+     * @return A unique positive identifier greater than every identifier generated before it.
+     */
+    public static long nextId() {
+        long state = next(lastId, (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS);
+        long time = state >>> SEQUENCE_BITS;
+
+        return (time << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | (state & SEQUENCE_MASK);
+    }
+
+    /**
+     * Generates the next UUID version 7 (RFC 9562). The upper 48 bits hold the milliseconds since the
+     * epoch and the following 12 bits a counter, so UUIDs generated by one instance are strictly increasing.
+     * The remaining 62 bits are random.
+     *
+     * @return A unique time-ordered UUID.
+     */
+    @Nonnull
+    public static UUID nextUuid() {
+        long state = next(lastUuid, System.currentTimeMillis() << UUID_COUNTER_BITS);
+        long mostSigBits = ((state >>> UUID_COUNTER_BITS) << 16) | 0x7000L | (state & ((1L << UUID_COUNTER_BITS) - 1));
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Extracts the time at which a 64-bit identifier was generated.
+     *
+     * @param id An identifier generated by {@link #nextId()}.
+     * @return The generation time in milliseconds since the epoch.
+     */
+    public static long getTime(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    /**
+     * Gets the node encoded in the identifiers generated by this instance.
+     *
+     * @return The node of this instance.
+     */
+    public static int getNodeId() {
+        return (int) node;
+    }
+
+    /**
+     * Sets the node encoded in the identifiers generated by this instance.
+     *
+     * @param nodeId The node of this instance, between 0 and {@link #MAX_NODE_ID}.
+     */
+    public static void setNodeId(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+        node = nodeId;
+    }
+
+    /**
+     * Advances the state of a generator to the given time, or by one if the time has not moved past it.
+     *
+     * @param last The last state of the generator.
+     * @param now  The current time, shifted left by the number of sequence bits.
+     * @return The new state, strictly greater than the previous one.
+     */
+    private static long next(@Nonnull AtomicLong last, long now) {
+        long previous;
+        long next;
+
+        do {
+            previous = last.get();
+            next = Math.max(now, previous + 1);
+        } while (!last.compareAndSet(previous, next));
+
+        return next;
+    }
+
+    /**
+     * Reads the node of this instance from the system properties, or picks a random one.
+     *
+     * @return The initial node of this instance.
+     */
+    private static long initialNode() {
+        Integer nodeId = Integer.getInteger(NODE_PROPERTY);
+        if (nodeId == null) return new SecureRandom().nextInt(MAX_NODE_ID + 1);
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+
+        return nodeId;
+    }
+}
@@ -23,6 +23,7 @@ import com.saadahmedev.base.response.ServerResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import jakarta.annotation.Nonnull;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -83,4 +84,16 @@ public class GlobalExceptionHandler {
     public ResponseEntity<?> handleMessageNotReadableException(@Nonnull HttpMessageNotReadableException exception) {
         return ServerResponse.badRequest(exception.getMessage());
     }
+
+    /**
+     * Handles exceptions of type {@link OptimisticLockingFailureException}, thrown when an entity was
+     * changed concurrently and the update could not be applied.
+     *
+     * @param exception The {@link OptimisticLockingFailureException} instance.
+     * @return A {@link ResponseEntity} with conflict response.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLockingFailureException(@Nonnull OptimisticLockingFailureException exception) {
+        return ServerResponse.conflict("The entity was modified concurrently, please retry");
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.mapper;
+
+import java.lang.annotation.*;
+
+/**
+ * Generate Mapper Annotation
+ *
+ * <p>
+ * Requests a build-time implementation of an entity mapper from {@link com.saadahmedev.base.processor.EntityMapperProcessor}.
+ * The generated code creates the entity with its no-arg constructor and copies every property by plain setter calls or
+ * field assignments, without reflection. It can be placed on:
+ * </p>
+ *
+ * <ul>
+ *     <li>an interface extending a {@code single}, {@code twice} or {@code triple} {@code EntityMapper}, for which a
+ *     {@code <Interface>Impl} class is generated. Redeclare {@code toEntity} to name its parameters: a parameter named
+ *     after a property of the entity is assigned to it, any other parameter is a source whose properties are copied.</li>
+ *     <li>a class implementing the {@code normal} {@code EntityMapper}, usually a request body, for which a
+ *     {@code <Class>Mapper} class implementing the {@code single} {@code EntityMapper} from the class is generated,
+ *     so that {@code toEntity()} can return {@code <Class>Mapper.INSTANCE.toEntity(this)}.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * @Entity
+ * @EntityListeners(AuditListener.class)
+ * public class User extends BaseEntity<Long> { ... }
+ *
+ * @GenerateMapper
+ * public interface UserMapper extends EntityMapper<User, UserRequest, Long> {
+ *     User toEntity(UserRequest request, Long createdById);
+ * }
+ * }</pre>
+ *
+ * <p>
+ * A property of a source is copied when the entity has a property with the same name and an assignable type; when
+ * several sources provide it, the first one wins. Null sources and null boxed values for primitive properties are
+ * skipped. The identity, audit, version and security flag properties of the base entities, such as {@code id},
+ * {@code createdById} or {@code deleted}, are never copied from a source; pass them as named parameters. As the
+ * entity is created with its no-arg constructor, its creation and update times and dates are left unset unless the
+ * entity registers {@link com.saadahmedev.base.entity.AuditListener} as above, or they are passed as named parameters
+ * or set before persisting; the processor warns when one of them is left unassigned. The generated classes also map a {@link java.util.List} or a
+ * {@link java.util.stream.Stream} of the first parameter with {@code toEntities}, and expose a stateless
+ * {@code INSTANCE}. With Gradle, add this library to the {@code annotationProcessor} configuration for the processor to run.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateMapper {
+}
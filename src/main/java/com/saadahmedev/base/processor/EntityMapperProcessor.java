@@ -0,0 +1,600 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.processor;
+
+import com.saadahmedev.base.mapper.GenerateMapper;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Entity Mapper Processor Class
+ *
+ * <p>
+ * An annotation processor generating the entity mappers requested with {@link GenerateMapper}. The generated
+ * {@code toEntity} creates the entity with its no-arg constructor, assigns the parameters named after a property of
+ * the entity, then copies the properties of the other parameters which the entity also has, each with a plain getter
+ * and setter call or a field access when no accessor is available. Properties are matched by name and assignable type,
+ * and the first source providing a property wins; a null source is skipped, and so is a null boxed value copied to
+ * a primitive property. The identity, audit, version and security flag properties declared by the base entities are
+ * only assigned from a parameter named after them, never copied from a source; as the entity is created with its
+ * no-arg constructor, a warning is reported when a non-nullable audit property is left unassigned and the entity does
+ * not register the {@code AuditListener} to fill it. Alongside, {@code toEntities} maps a
+ * list or a stream of the first parameter with the remaining parameters.
+ * </p>
+ *
+ * <p>
+ * Each generated file is derived from its annotated type and the types it references only, and is written with that
+ * type as its single originating element, so the processor is declared isolating for incremental Gradle builds.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@SupportedAnnotationTypes("com.saadahmedev.base.mapper.GenerateMapper")
+public class EntityMapperProcessor extends AbstractProcessor {
+
+    private static final String NORMAL_MAPPER = "com.saadahmedev.base.mapper.normal.EntityMapper";
+    private static final String SINGLE_MAPPER = "com.saadahmedev.base.mapper.single.EntityMapper";
+    private static final String ENTITY_PACKAGE = "com.saadahmedev.base.entity";
+    private static final String AUDIT_LISTENER = ENTITY_PACKAGE + ".AuditListener";
+    private static final Set<String> AUDIT_PROPERTIES = Set.of("createdTime", "updatedTime", "createdById", "createdDate", "updatedDate");
+    private static final List<String> MAPPERS = List.of(
+            SINGLE_MAPPER,
+            "com.saadahmedev.base.mapper.twice.EntityMapper",
+            "com.saadahmedev.base.mapper.triple.EntityMapper"
+    );
+
+    /**
+     * Gets the latest source version supported by the compiler running the processor.
+     *
+     * @return The latest supported source version.
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Generates the mappers of the types annotated in this round.
+     *
+     * @param annotations The annotation types requested to be processed.
+     * @param roundEnv    The environment of the current round.
+     * @return True, as the annotation is claimed by this processor.
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateMapper.class)) {
+            try {
+                if (element.getKind() == ElementKind.INTERFACE) generateImplementation((TypeElement) element);
+                else if (element.getKind() == ElementKind.CLASS || element.getKind() == ElementKind.RECORD) generateSourceMapper((TypeElement) element);
+                else error(element, "@GenerateMapper can only be placed on an interface or a class");
+            } catch (IOException exception) {
+                error(element, "Could not generate the entity mapper: " + exception.getMessage());
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Generates the implementation of a mapper interface extending a single, twice or triple EntityMapper.
+     *
+     * @param mapper The annotated mapper interface.
+     * @throws IOException If the source file could not be written.
+     */
+    private void generateImplementation(TypeElement mapper) throws IOException {
+        if (!mapper.getTypeParameters().isEmpty()) {
+            error(mapper, "A @GenerateMapper interface cannot declare type parameters");
+            return;
+        }
+        if (MAPPERS.stream().noneMatch(name -> isSubtype(mapper, name))) {
+            error(mapper, "A @GenerateMapper interface must extend a single, twice or triple EntityMapper");
+            return;
+        }
+
+        List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(mapper)).stream()
+                .filter(method -> method.getModifiers().contains(Modifier.ABSTRACT))
+                .toList();
+        if (methods.size() != 1) {
+            error(mapper, "A @GenerateMapper interface must declare no abstract method besides toEntity");
+            return;
+        }
+
+        ExecutableElement method = methods.get(0);
+        ExecutableType type = (ExecutableType) processingEnv.getTypeUtils().asMemberOf((DeclaredType) mapper.asType(), method);
+        List<Parameter> parameters = new ArrayList<>();
+        for (int i = 0; i < method.getParameters().size(); i++) {
+            parameters.add(new Parameter(method.getParameters().get(i).getSimpleName().toString(), type.getParameterTypes().get(i)));
+        }
+
+        write(mapper, getFlatName(mapper) + "Impl", mapper.getQualifiedName().toString(), type.getReturnType(), parameters);
+    }
+
+    /**
+     * Generates a single EntityMapper from a class implementing the normal EntityMapper, typically a request body.
+     *
+     * @param source The annotated source class.
+     * @throws IOException If the source file could not be written.
+     */
+    private void generateSourceMapper(TypeElement source) throws IOException {
+        if (!source.getTypeParameters().isEmpty()) {
+            error(source, "A @GenerateMapper class cannot declare type parameters");
+            return;
+        }
+        if (!isSubtype(source, NORMAL_MAPPER)) {
+            error(source, "A @GenerateMapper class must implement the normal EntityMapper");
+            return;
+        }
+
+        TypeElement normalMapper = processingEnv.getElementUtils().getTypeElement(NORMAL_MAPPER);
+        ExecutableElement method = ElementFilter.methodsIn(normalMapper.getEnclosedElements()).get(0);
+        TypeMirror entity = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf((DeclaredType) source.asType(), method)).getReturnType();
+        String mapperInterface = SINGLE_MAPPER + "<" + entity + ", " + source.getQualifiedName() + ">";
+
+        write(source, getFlatName(source) + "Mapper", mapperInterface, entity, List.of(new Parameter("p0", source.asType())));
+    }
+
+    /**
+     * Writes the source file of a generated mapper.
+     *
+     * @param origin          The annotated type the mapper is generated for.
+     * @param className       The simple name of the generated class.
+     * @param mapperInterface The source representation of the interface implemented by the generated class.
+     * @param entityType      The type of the mapped entity.
+     * @param parameters      The parameters of the toEntity method.
+     * @throws IOException If the source file could not be written.
+     */
+    private void write(TypeElement origin, String className, String mapperInterface, TypeMirror entityType, List<Parameter> parameters) throws IOException {
+        Types types = processingEnv.getTypeUtils();
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(origin);
+
+        if (entityType.getKind() != TypeKind.DECLARED
+                || ((DeclaredType) entityType).asElement().getKind() != ElementKind.CLASS
+                || ((DeclaredType) entityType).asElement().getModifiers().contains(Modifier.ABSTRACT)
+                || ((TypeElement) ((DeclaredType) entityType).asElement()).getQualifiedName().contentEquals("java.lang.Object")) {
+            error(origin, "The entity of a generated mapper must be a concrete class, but was " + entityType);
+            return;
+        }
+
+        TypeElement entity = (TypeElement) ((DeclaredType) entityType).asElement();
+        boolean instantiable = ElementFilter.constructorsIn(entity.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() && isAccessible(constructor, packageElement));
+        if (!instantiable) {
+            error(origin, "Entity " + entity.getSimpleName() + " has no no-arg constructor accessible from " + packageElement.getQualifiedName());
+            return;
+        }
+
+        Map<String, Property> targets = getWritableProperties((DeclaredType) entityType, packageElement);
+        Set<String> names = new HashSet<>();
+        parameters.forEach(parameter -> names.add(parameter.name));
+        String entityVariable = getUniqueName("entity", names);
+
+        List<String> assignments = new ArrayList<>();
+        Map<String, List<String>> sourceAssignments = new LinkedHashMap<>();
+        Set<String> mapped = new HashSet<>();
+        Set<String> incompatible = new TreeSet<>();
+
+        for (Parameter parameter : parameters) {
+            Property target = targets.get(parameter.name);
+            if (target != null && types.isAssignable(parameter.type, target.type)) {
+                assignments.add(assign(target, entityVariable, parameter.type, parameter.name));
+                mapped.add(target.name);
+            }
+        }
+
+        for (Parameter parameter : parameters) {
+            if (mapped.contains(parameter.name) && targets.containsKey(parameter.name)) continue;
+            if (parameter.type.getKind() != TypeKind.DECLARED) {
+                error(origin, "Parameter " + parameter.name + " is neither a property of " + entity.getSimpleName() + " nor an object to copy properties from");
+                return;
+            }
+
+            List<String> lines = new ArrayList<>();
+            for (Property source : getReadableProperties((DeclaredType) parameter.type, packageElement).values()) {
+                Property target = targets.get(source.name);
+                if (target == null || target.reserved || mapped.contains(target.name)) continue;
+
+                if (types.isAssignable(source.type, target.type)) {
+                    lines.add(assign(target, entityVariable, source.type, source.read(parameter.name)));
+                    mapped.add(target.name);
+                } else {
+                    incompatible.add(target.name);
+                }
+            }
+            if (lines.isEmpty()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Parameter " + parameter.name + " maps no property of " + entity.getSimpleName() + ", name it after a property to assign it", origin);
+            }
+            sourceAssignments.put(parameter.name, lines);
+        }
+
+        incompatible.removeAll(mapped);
+        for (String name : incompatible) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Property " + name + " of " + entity.getSimpleName() + " is not mapped, as its sources have an incompatible type", origin);
+        }
+
+        if (!hasAuditListener(entity)) {
+            Set<String> unassigned = new TreeSet<>(getRequiredAuditProperties(entity));
+            unassigned.removeAll(mapped);
+            if (!unassigned.isEmpty()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Properties " + String.join(", ", unassigned) + " of " + entity.getSimpleName()
+                        + " are required but not assigned, register AuditListener on the entity, name parameters after them or set them before persisting", origin);
+            }
+        }
+
+        String packageName = packageElement.getQualifiedName().toString();
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        String entityName = entityType.toString();
+
+        StringJoiner declarations = new StringJoiner(", ");
+        StringJoiner arguments = new StringJoiner(", ");
+        parameters.forEach(parameter -> declarations.add(parameter.type + " " + parameter.name));
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, origin).openWriter()) {
+            if (!packageName.isEmpty()) writer.write("package " + packageName + ";\n\n");
+
+            writer.write("/**\n");
+            writer.write(" * Generated implementation of {@link " + mapperInterface.replaceFirst("<.*", "") + "}, mapping to {@link " + entity.getQualifiedName() + "}.\n");
+            writer.write(" */\n");
+            writer.write("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")\n");
+            writer.write(origin.getModifiers().contains(Modifier.PUBLIC) ? "public " : "");
+            writer.write("final class " + className + " implements " + mapperInterface + " {\n\n");
+
+            writer.write("    /**\n     * The shared instance of the stateless mapper.\n     */\n");
+            writer.write("    public static final " + className + " INSTANCE = new " + className + "();\n\n");
+
+            writer.write("    @Override\n");
+            writer.write("    public " + entityName + " toEntity(" + declarations + ") {\n");
+            writer.write("        " + entityName + " " + entityVariable + " = new " + entityName + "();\n");
+            for (String assignment : assignments) writer.write("        " + assignment + "\n");
+            for (Map.Entry<String, List<String>> entry : sourceAssignments.entrySet()) {
+                if (entry.getValue().isEmpty()) continue;
+
+                writer.write("        if (" + entry.getKey() + " != null) {\n");
+                for (String assignment : entry.getValue()) writer.write("            " + assignment + "\n");
+                writer.write("        }\n");
+            }
+            writer.write("        return " + entityVariable + ";\n");
+            writer.write("    }\n");
+
+            if (!parameters.isEmpty()) {
+                Parameter first = parameters.get(0);
+                String elementType = (first.type.getKind().isPrimitive() ? types.boxedClass((PrimitiveType) first.type).asType() : first.type).toString();
+                String element = getUniqueName("source", names);
+                String list = getUniqueName("entities", names);
+
+                StringJoiner listDeclarations = new StringJoiner(", ");
+                StringJoiner streamDeclarations = new StringJoiner(", ");
+                arguments.add(element);
+                listDeclarations.add("java.util.List<? extends " + elementType + "> " + first.name);
+                streamDeclarations.add("java.util.stream.Stream<? extends " + elementType + "> " + first.name);
+                for (Parameter parameter : parameters.subList(1, parameters.size())) {
+                    arguments.add(parameter.name);
+                    listDeclarations.add(parameter.type + " " + parameter.name);
+                    streamDeclarations.add(parameter.type + " " + parameter.name);
+                }
+
+                writer.write("\n    /**\n     * Maps every element of a list, keeping its order.\n     *\n");
+                writer.write("     * @return The entities mapped from the elements of the list.\n     */\n");
+                writer.write("    public java.util.List<" + entityName + "> toEntities(" + listDeclarations + ") {\n");
+                writer.write("        java.util.List<" + entityName + "> " + list + " = new java.util.ArrayList<>(" + first.name + ".size());\n");
+                writer.write("        for (" + elementType + " " + element + " : " + first.name + ") " + list + ".add(toEntity(" + arguments + "));\n");
+                writer.write("        return " + list + ";\n");
+                writer.write("    }\n");
+
+                writer.write("\n    /**\n     * Lazily maps every element of a stream.\n     *\n");
+                writer.write("     * @return The stream of the entities mapped from the elements of the stream.\n     */\n");
+                writer.write("    public java.util.stream.Stream<" + entityName + "> toEntities(" + streamDeclarations + ") {\n");
+                writer.write("        return " + first.name + ".map(" + element + " -> toEntity(" + arguments + "));\n");
+                writer.write("    }\n");
+            }
+
+            writer.write("}\n");
+        }
+    }
+
+    /**
+     * Gets the properties of an entity which generated code can write, through a setter or else an assignable field.
+     *
+     * @param type           The entity type.
+     * @param packageElement The package of the generated code.
+     * @return The writable properties by name.
+     */
+    private Map<String, Property> getWritableProperties(DeclaredType type, PackageElement packageElement) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        List<? extends Element> members = processingEnv.getElementUtils().getAllMembers((TypeElement) type.asElement());
+
+        for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+            String name = method.getSimpleName().toString();
+            if (name.length() <= 3 || !name.startsWith("set") || method.getParameters().size() != 1) continue;
+            if (method.getModifiers().contains(Modifier.STATIC) || !isAccessible(method, packageElement)) continue;
+
+            TypeMirror propertyType = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(type, method)).getParameterTypes().get(0);
+            properties.putIfAbsent(decapitalize(name.substring(3)), new Property(decapitalize(name.substring(3)), propertyType, name, isReserved(method)));
+        }
+
+        for (VariableElement field : ElementFilter.fieldsIn(members)) {
+            if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.FINAL) || !isAccessible(field, packageElement)) continue;
+
+            String name = field.getSimpleName().toString();
+            properties.putIfAbsent(name, new Property(name, processingEnv.getTypeUtils().asMemberOf(type, field), null, isReserved(field)));
+        }
+
+        return properties;
+    }
+
+    /**
+     * Gets the properties of a source which generated code can read, through a getter, a record accessor or else a field.
+     *
+     * @param type           The source type.
+     * @param packageElement The package of the generated code.
+     * @return The readable properties by name.
+     */
+    private Map<String, Property> getReadableProperties(DeclaredType type, PackageElement packageElement) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        TypeElement element = (TypeElement) type.asElement();
+        List<? extends Element> members = processingEnv.getElementUtils().getAllMembers(element);
+
+        for (RecordComponentElement component : ElementFilter.recordComponentsIn(element.getEnclosedElements())) {
+            String name = component.getSimpleName().toString();
+            TypeMirror componentType = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(type, component.getAccessor())).getReturnType();
+            properties.put(name, new Property(name, componentType, name, false));
+        }
+
+        for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+            if (!method.getParameters().isEmpty() || method.getModifiers().contains(Modifier.STATIC) || !isAccessible(method, packageElement)) continue;
+
+            TypeMirror returnType = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(type, method)).getReturnType();
+            String name = method.getSimpleName().toString();
+            String property;
+
+            if (name.length() > 3 && name.startsWith("get") && !name.equals("getClass")) property = decapitalize(name.substring(3));
+            else if (name.length() > 2 && name.startsWith("is") && returnType.getKind() == TypeKind.BOOLEAN) property = decapitalize(name.substring(2));
+            else continue;
+
+            properties.putIfAbsent(property, new Property(property, returnType, name, false));
+        }
+
+        for (VariableElement field : ElementFilter.fieldsIn(members)) {
+            if (field.getModifiers().contains(Modifier.STATIC) || !isAccessible(field, packageElement)) continue;
+
+            String name = field.getSimpleName().toString();
+            properties.putIfAbsent(name, new Property(name, processingEnv.getTypeUtils().asMemberOf(type, field), null, false));
+        }
+
+        return properties;
+    }
+
+    /**
+     * Gets the statement assigning a value to a property of the entity. A boxed value assigned to a primitive
+     * property is only assigned when it is not null, leaving the default of the entity instead of unboxing null.
+     *
+     * @param target    The property of the entity.
+     * @param entity    The name of the variable holding the entity.
+     * @param valueType The type of the value.
+     * @param value     The expression of the value.
+     * @return The assignment statement.
+     */
+    private String assign(Property target, String entity, TypeMirror valueType, String value) {
+        if (!target.type.getKind().isPrimitive() || valueType.getKind().isPrimitive()) return target.write(entity, value);
+        return "if (" + value + " != null) " + target.write(entity, value);
+    }
+
+    /**
+     * Checks whether a member of an entity is declared by one of the base entities of this library, which hold the
+     * identity, audit, version and security flag properties that must not be copied from a request.
+     *
+     * @param member The setter or field of the entity.
+     * @return True if the member is declared in the base entity package, false otherwise.
+     */
+    private boolean isReserved(Element member) {
+        return processingEnv.getElementUtils().getPackageOf(member).getQualifiedName().contentEquals(ENTITY_PACKAGE);
+    }
+
+    /**
+     * Checks whether an entity or one of its superclasses registers the {@code AuditListener}, which fills the audit
+     * properties of the base entities before the entity is persisted.
+     *
+     * @param entity The entity.
+     * @return True if the listener is registered through {@code @EntityListeners}, false otherwise.
+     */
+    private boolean hasAuditListener(TypeElement entity) {
+        for (TypeElement type = entity; type != null; type = getSuperclass(type)) {
+            for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+                if (!((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals("jakarta.persistence.EntityListeners")) continue;
+
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+                    if (!entry.getKey().getSimpleName().contentEquals("value") || !(entry.getValue().getValue() instanceof List<?> listeners)) continue;
+
+                    for (Object listener : listeners) {
+                        if (((AnnotationValue) listener).getValue() instanceof DeclaredType listenerType
+                                && isSubtype((TypeElement) listenerType.asElement(), AUDIT_LISTENER)) return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the audit properties declared by the base entities in the hierarchy of an entity as non-nullable columns,
+     * which must be assigned before the entity is persisted.
+     *
+     * @param entity The entity.
+     * @return The names of the required audit properties.
+     */
+    private Set<String> getRequiredAuditProperties(TypeElement entity) {
+        Set<String> properties = new HashSet<>();
+        for (TypeElement type = entity; type != null; type = getSuperclass(type)) {
+            if (!isReserved(type)) continue;
+
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (AUDIT_PROPERTIES.contains(field.getSimpleName().toString()) && isNonNullableColumn(field)) {
+                    properties.add(field.getSimpleName().toString());
+                }
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Checks whether a field is mapped by {@code @Column(nullable = false)}.
+     *
+     * @param field The field.
+     * @return True if the column of the field is not nullable, false otherwise.
+     */
+    private static boolean isNonNullableColumn(VariableElement field) {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            if (!((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals("jakarta.persistence.Column")) continue;
+
+            return annotation.getElementValues().entrySet().stream()
+                    .anyMatch(entry -> entry.getKey().getSimpleName().contentEquals("nullable") && Boolean.FALSE.equals(entry.getValue().getValue()));
+        }
+        return false;
+    }
+
+    /**
+     * Gets the superclass of a type.
+     *
+     * @param type The type.
+     * @return The superclass, or null if the type has none.
+     */
+    private static TypeElement getSuperclass(TypeElement type) {
+        return type.getSuperclass() instanceof DeclaredType superclass ? (TypeElement) superclass.asElement() : null;
+    }
+
+    /**
+     * Checks whether a type is a subtype of the erasure of the given type.
+     *
+     * @param type          The type to check.
+     * @param qualifiedName The qualified name of the supertype.
+     * @return True if the type is a subtype, false otherwise or if the supertype is not on the classpath.
+     */
+    private boolean isSubtype(TypeElement type, String qualifiedName) {
+        TypeElement supertype = processingEnv.getElementUtils().getTypeElement(qualifiedName);
+        Types types = processingEnv.getTypeUtils();
+
+        return supertype != null && types.isSubtype(types.erasure(type.asType()), types.erasure(supertype.asType()));
+    }
+
+    /**
+     * Checks whether a member can be accessed by code generated in the given package.
+     *
+     * @param element        The member.
+     * @param packageElement The package of the generated code.
+     * @return True if the member is public, or neither public nor private and declared in the same package.
+     */
+    private boolean isAccessible(Element element, PackageElement packageElement) {
+        if (element.getModifiers().contains(Modifier.PUBLIC)) return true;
+        if (element.getModifiers().contains(Modifier.PRIVATE)) return false;
+        return processingEnv.getElementUtils().getPackageOf(element).equals(packageElement);
+    }
+
+    /**
+     * Gets a name not used by any parameter, by appending underscores to the preferred name.
+     *
+     * @param name  The preferred name.
+     * @param taken The names of the parameters.
+     * @return The first name not taken.
+     */
+    private static String getUniqueName(String name, Set<String> taken) {
+        while (taken.contains(name)) name = name + "_";
+        return name;
+    }
+
+    /**
+     * Lower cases the first character of a name, unless its first two characters are upper case.
+     *
+     * @param name The name to decapitalize.
+     * @return The decapitalized name.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) return name;
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Gets the name of a type prefixed by the names of its enclosing types, so that nested types get unique mapper names.
+     *
+     * @param type The type.
+     * @return The simple names of the type and its enclosing types, joined by underscores.
+     */
+    private static String getFlatName(TypeElement type) {
+        String name = type.getSimpleName().toString();
+        Element enclosing = type.getEnclosingElement();
+
+        return enclosing instanceof TypeElement enclosingType ? getFlatName(enclosingType) + "_" + name : name;
+    }
+
+    /**
+     * Reports a compilation error on an element.
+     *
+     * @param element The element the error is reported on.
+     * @param message The error message.
+     */
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * A parameter of a generated toEntity method.
+     *
+     * @param name The name of the parameter.
+     * @param type The type of the parameter.
+     */
+    private record Parameter(String name, TypeMirror type) {
+    }
+
+    /**
+     * A property of an entity or a source, accessed through a method or else directly through its field.
+     *
+     * @param name     The name of the property.
+     * @param type     The type of the property.
+     * @param accessor The name of the getter or setter, or null to access the field.
+     * @param reserved Whether the property is declared by a base entity, so it is only assigned from a named parameter.
+     */
+    private record Property(String name, TypeMirror type, String accessor, boolean reserved) {
+
+        /**
+         * Gets the statement assigning a value to this property of an object.
+         *
+         * @param target The name of the variable holding the object.
+         * @param value  The expression of the value.
+         * @return The assignment statement.
+         */
+        String write(String target, String value) {
+            return accessor != null ? target + "." + accessor + "(" + value + ");" : target + "." + name + " = " + value + ";";
+        }
+
+        /**
+         * Gets the expression reading this property of an object.
+         *
+         * @param source The name of the variable holding the object.
+         * @return The read expression.
+         */
+        String read(String source) {
+            return accessor != null ? source + "." + accessor + "()" : source + "." + name;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.processor;
+
+import com.saadahmedev.base.projection.ProjectionRecord;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Projection Record Processor Class
+ *
+ * <p>
+ * An annotation processor generating, for every interface annotated with {@link ProjectionRecord}, a record
+ * implementing the interface. Each abstract getter of the interface, including the inherited ones, becomes a
+ * record component named after the property it reads, and is implemented by returning that component. The record
+ * also declares {@code SELECT}, {@code SELECT_BY_ID} and {@code SELECT_ALL_BY_ID} constants, holding JPQL
+ * constructor expressions which can be used in {@code @Query} annotations. Every selected property is checked
+ * against the fields of the entity, so a mismatch fails the build instead of the first query.
+ * </p>
+ *
+ * <p>
+ * Each generated file is derived from its annotated type and the types it references only, and is written with that
+ * type as its single originating element, so the processor is declared isolating for incremental Gradle builds.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@SupportedAnnotationTypes("com.saadahmedev.base.projection.ProjectionRecord")
+public class ProjectionRecordProcessor extends AbstractProcessor {
+
+    /**
+     * Gets the latest source version supported by the compiler running the processor.
+     *
+     * @return The latest supported source version.
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Generates the records of the projection interfaces annotated in this round.
+     *
+     * @param annotations The annotation types requested to be processed.
+     * @param roundEnv    The environment of the current round.
+     * @return True, as the annotation is claimed by this processor.
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(ProjectionRecord.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@ProjectionRecord can only be placed on an interface");
+                continue;
+            }
+
+            try {
+                generate((TypeElement) element);
+            } catch (IOException exception) {
+                error(element, "Could not generate the projection record: " + exception.getMessage());
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Generates the record of a projection interface.
+     *
+     * @param projection The annotated projection interface.
+     * @throws IOException If the source file could not be written.
+     */
+    private void generate(TypeElement projection) throws IOException {
+        TypeElement entity = getEntity(projection);
+        if (entity == null) return;
+
+        Set<String> attributes = getAttributes(entity);
+        DeclaredType projectionType = (DeclaredType) projection.asType();
+        List<Component> components = new ArrayList<>();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(projection))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT) || isObjectMethod(method)) continue;
+
+            TypeMirror type = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(projectionType, method)).getReturnType();
+            if (!method.getParameters().isEmpty() || type.getKind() == TypeKind.VOID) {
+                error(projection, method + " must be a getter without parameters");
+                return;
+            }
+            if (type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).asElement().getKind() == ElementKind.INTERFACE) {
+                error(projection, method + " returns a nested or collection projection, which a constructor expression cannot select");
+                return;
+            }
+
+            String property = getPropertyName(method, type);
+            if (!attributes.contains(property)) {
+                error(projection, "Entity " + entity.getSimpleName() + " has no attribute " + property + " read by " + method);
+                return;
+            }
+
+            components.add(new Component(property, method.getSimpleName().toString(), type.toString()));
+        }
+
+        writeRecord(projection, entity, components);
+    }
+
+    /**
+     * Writes the source file of the record of a projection interface.
+     *
+     * @param projection The annotated projection interface.
+     * @param entity     The entity the projection is selected from.
+     * @param components The components of the record, in declaration order.
+     * @throws IOException If the source file could not be written.
+     */
+    private void writeRecord(TypeElement projection, TypeElement entity, List<Component> components) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(projection).getQualifiedName().toString();
+        String recordName = getFlatName(projection) + "Record";
+        String qualifiedName = packageName.isEmpty() ? recordName : packageName + "." + recordName;
+
+        StringJoiner parameters = new StringJoiner(", ");
+        StringJoiner selections = new StringJoiner(", ");
+        for (Component component : components) {
+            parameters.add(component.type + " " + component.name);
+            selections.add("e." + component.name);
+        }
+
+        String select = "select new " + qualifiedName + "(" + selections + ") from " + getEntityName(entity) + " e";
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, projection).openWriter()) {
+            if (!packageName.isEmpty()) writer.write("package " + packageName + ";\n\n");
+
+            writer.write("/**\n");
+            writer.write(" * Record implementation of {@link " + projection.getQualifiedName() + "}, selected from {@link " + entity.getQualifiedName() + "}.\n");
+            writer.write(" */\n");
+            writer.write("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")\n");
+            writer.write((projection.getModifiers().contains(Modifier.PUBLIC) ? "public " : ""));
+            writer.write("record " + recordName + "(" + parameters + ") implements " + projection.getQualifiedName() + " {\n\n");
+
+            writer.write("    /**\n     * Selects the projection of every entity.\n     */\n");
+            writer.write("    public static final String SELECT = \"" + select + "\";\n\n");
+            writer.write("    /**\n     * Selects the projection of the entity with the identifier bound to {@code :id}.\n     */\n");
+            writer.write("    public static final String SELECT_BY_ID = SELECT + \" where e.id = :id\";\n\n");
+            writer.write("    /**\n     * Selects the projections of the entities with the identifiers bound to {@code :ids}.\n     */\n");
+            writer.write("    public static final String SELECT_ALL_BY_ID = SELECT + \" where e.id in :ids\";\n");
+
+            for (Component component : components) {
+                if (component.method.equals(component.name)) continue;
+
+                writer.write("\n    @Override\n");
+                writer.write("    public " + component.type + " " + component.method + "() {\n");
+                writer.write("        return " + component.name + ";\n");
+                writer.write("    }\n");
+            }
+
+            writer.write("}\n");
+        }
+    }
+
+    /**
+     * Gets the entity class of a projection interface from its annotation.
+     *
+     * @param projection The annotated projection interface.
+     * @return The entity class, or null if it is not a class.
+     */
+    private TypeElement getEntity(TypeElement projection) {
+        TypeMirror type;
+        try {
+            projection.getAnnotation(ProjectionRecord.class).entity();
+            return null;
+        } catch (MirroredTypeException exception) {
+            type = exception.getTypeMirror();
+        }
+
+        if (type.getKind() != TypeKind.DECLARED || ((DeclaredType) type).asElement().getKind() != ElementKind.CLASS) {
+            error(projection, "The entity of a @ProjectionRecord must be a class");
+            return null;
+        }
+
+        return (TypeElement) ((DeclaredType) type).asElement();
+    }
+
+    /**
+     * Gets the names of the persistent fields of an entity, including those of its superclasses.
+     *
+     * @param entity The entity class.
+     * @return The names of the non-static fields of the entity.
+     */
+    private Set<String> getAttributes(TypeElement entity) {
+        Set<String> attributes = new HashSet<>();
+
+        for (TypeElement type = entity; type != null; ) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) attributes.add(field.getSimpleName().toString());
+            }
+
+            TypeMirror superclass = type.getSuperclass();
+            type = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+
+        return attributes;
+    }
+
+    /**
+     * Gets the JPQL name of an entity, which is the name of its {@code @Entity} annotation, or its simple name.
+     *
+     * @param entity The entity class.
+     * @return The name of the entity in queries.
+     */
+    private String getEntityName(TypeElement entity) {
+        for (AnnotationMirror annotation : entity.getAnnotationMirrors()) {
+            if (!((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals("jakarta.persistence.Entity")) continue;
+
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("name") && !entry.getValue().getValue().toString().isEmpty()) {
+                    return entry.getValue().getValue().toString();
+                }
+            }
+        }
+
+        return entity.getSimpleName().toString();
+    }
+
+    /**
+     * Gets the name of the property read by a getter, following the JavaBeans naming conventions.
+     *
+     * @param method The getter.
+     * @param type   The return type of the getter.
+     * @return The name of the property.
+     */
+    private static String getPropertyName(ExecutableElement method, TypeMirror type) {
+        String name = method.getSimpleName().toString();
+
+        if (name.length() > 3 && name.startsWith("get")) return decapitalize(name.substring(3));
+        if (name.length() > 2 && name.startsWith("is") && type.getKind() == TypeKind.BOOLEAN) return decapitalize(name.substring(2));
+        return name;
+    }
+
+    /**
+     * Lower cases the first character of a name, unless its first two characters are upper case.
+     *
+     * @param name The name to decapitalize.
+     * @return The decapitalized name.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) return name;
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Gets the name of a type prefixed by the names of its enclosing types, so that nested interfaces get unique record names.
+     *
+     * @param type The type.
+     * @return The simple names of the type and its enclosing types, joined by underscores.
+     */
+    private static String getFlatName(TypeElement type) {
+        String name = type.getSimpleName().toString();
+        Element enclosing = type.getEnclosingElement();
+
+        return enclosing instanceof TypeElement enclosingType ? getFlatName(enclosingType) + "_" + name : name;
+    }
+
+    /**
+     * Checks whether a method is declared by {@link Object}, as interfaces inherit its public methods.
+     *
+     * @param method The method.
+     * @return True if the method is declared by Object, false otherwise.
+     */
+    private static boolean isObjectMethod(ExecutableElement method) {
+        return ((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals("java.lang.Object");
+    }
+
+    /**
+     * Reports a compilation error on an element.
+     *
+     * @param element The element the error is reported on.
+     * @param message The error message.
+     */
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * A component of a generated record.
+     *
+     * @param name   The name of the component, which is the name of the selected attribute.
+     * @param method The name of the interface method returning the component.
+     * @param type   The source representation of the type of the component.
+     */
+    private record Component(String name, String method, String type) {
+    }
+}
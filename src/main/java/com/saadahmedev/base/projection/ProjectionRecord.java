@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.projection;
+
+import java.lang.annotation.*;
+
+/**
+ * Projection Record Annotation
+ *
+ * <p>
+ * Marks a projection interface, such as one extending {@link BaseProjection}, for which an immutable record
+ * is generated at build time by {@link com.saadahmedev.base.processor.ProjectionRecordProcessor}. The record
+ * is named after the interface with a {@code Record} suffix, implements the interface with one component per
+ * abstract getter, and holds constructor-expression queries selecting exactly those attributes of the entity:
+ * </p>
+ *
+ * <pre>{@code
+ * @ProjectionRecord(entity = User.class)
+ * public interface UserView extends BaseProjection<Long> {
+ *     String getName();
+ * }
+ *
+ * public interface UserRepository extends BaseRepository<User, Long> {
+ *     @Query(UserViewRecord.SELECT_BY_ID)
+ *     Optional<UserViewRecord> findViewById(Long id);
+ * }
+ * }</pre>
+ *
+ * <p>
+ * Rows are then materialized by calling the record constructor, instead of backing every row with a proxy of the
+ * interface and a map of its values. Getters with a default implementation are not selected. With Gradle, add this
+ * library to the {@code annotationProcessor} configuration for the processor to run.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface ProjectionRecord {
+
+    /**
+     * The entity class the projection is selected from.
+     *
+     * @return The class of the projected entity.
+     */
+    Class<?> entity();
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Base Repository Interface
+ *
+ * <p>
+ * Extends {@link JpaRepository} with queries shared by every entity repository.
+ * Declare entity repositories as {@code interface UserRepository extends BaseRepository<User, Long>}.
+ * </p>
+ *
+ * @param <E> The type representing the entity.
+ * @param <I> The type representing the identifier of the entity.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@NoRepositoryBean
+public interface BaseRepository<E, I extends Serializable> extends JpaRepository<E, I> {
+
+    /**
+     * Streams all entities as read-only, fetching rows from the database in chunks instead of
+     * loading the whole table. The stream must be consumed and closed inside a transaction.
+     *
+     * @return A {@link Stream} of all entities.
+     *
+     * @see com.saadahmedev.base.response.StreamingResponse
+     */
+    @Query("select e from #{#entityName} e")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<E> streamAll();
+
+    /**
+     * Finds a page of entities without counting them. Spring Data fetches one extra row to tell
+     * whether a next page exists instead of running a {@code COUNT(*)} query.
+     *
+     * @param pageable The Pageable object specifying the pagination information.
+     * @return A {@link Slice} of entities.
+     *
+     * @see com.saadahmedev.base.cache.CountCache
+     */
+    @Query("select e from #{#entityName} e")
+    Slice<E> findAllSlice(Pageable pageable);
+
+    /**
+     * Finds the first entities ordered by identifier, for the first page of keyset pagination.
+     *
+     * @param limit The maximum number of entities to return, such as {@code PageRequest.of(0, size + 1)}.
+     * @return The entities with the smallest identifiers.
+     */
+    @Query("select e from #{#entityName} e order by e.id asc")
+    List<E> findFirstOrderById(Pageable limit);
+
+    /**
+     * Finds the entities following the given identifier, seeking on the primary key index instead of
+     * skipping rows with an offset, so every page costs the same regardless of its depth.
+     *
+     * @param id    The identifier of the last entity of the previous page.
+     * @param limit The maximum number of entities to return, such as {@code PageRequest.of(0, size + 1)}.
+     * @return The entities with identifiers greater than the given identifier.
+     */
+    @Query("select e from #{#entityName} e where e.id > :id order by e.id asc")
+    List<E> findAfterId(@Param("id") I id, Pageable limit);
+
+    /**
+     * Finds the first entities ordered by created time, for the first page of keyset pagination.
+     *
+     * @param limit The maximum number of entities to return, such as {@code PageRequest.of(0, size + 1)}.
+     * @return The oldest entities.
+     */
+    @Query("select e from #{#entityName} e order by e.createdTime asc, e.id asc")
+    List<E> findFirstOrderByCreatedTime(Pageable limit);
+
+    /**
+     * Finds the entities created after the given position, ordered by created time and identifier.
+     * An index on {@code (created_time, id)} keeps every page as fast as the first one.
+     *
+     * @param createdTime The created time of the last entity of the previous page.
+     * @param id          The identifier of the last entity of the previous page.
+     * @param limit       The maximum number of entities to return, such as {@code PageRequest.of(0, size + 1)}.
+     * @return The entities following the given position.
+     */
+    @Query("select e from #{#entityName} e where e.createdTime > :createdTime or (e.createdTime = :createdTime and e.id > :id) order by e.createdTime asc, e.id asc")
+    List<E> findAfterCreatedTime(@Param("createdTime") Long createdTime, @Param("id") I id, Pageable limit);
+
+    /**
+     * Deletes the entities with the given identifiers using a single {@code DELETE ... WHERE id IN (...)}
+     * statement, without loading them. Cascades and entity callbacks are not applied, and entities already
+     * loaded in the persistence context are cleared. Must be called inside a transaction.
+     *
+     * @param ids The identifiers of the entities to delete.
+     * @return The number of deleted entities.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from #{#entityName} e where e.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<I> ids);
+}
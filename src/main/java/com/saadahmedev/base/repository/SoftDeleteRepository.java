@@ -0,0 +1,261 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.repository;
+
+import com.saadahmedev.base.entity.CompactEntity;
+import com.saadahmedev.base.entity.SecuredEntity;
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Soft Delete Repository Interface
+ *
+ * <p>
+ * Extends {@link BaseRepository} for entities extending {@link com.saadahmedev.base.entity.BaseSecuredEntity} or
+ * {@link com.saadahmedev.base.entity.CompactSecuredEntity} whose rows are marked as deleted instead of being removed.
+ * The inherited methods are overridden, so services keep calling {@code findById}, {@code findAll} and
+ * {@code deleteById}: the finders skip deleted rows, and {@code deleteById} flips {@code isDeleted} and records the
+ * deletion time with a single {@code UPDATE}. {@link com.saadahmedev.base.service.SoftDeletePurger} physically
+ * removes deleted rows once they are older than a retention window, with {@link #deleteAllByIdIn(java.util.Collection)}.
+ * The soft delete leaves the version unchanged, so entities extending
+ * {@link com.saadahmedev.base.entity.VersionedSecuredEntity} must use {@link VersionedSoftDeleteRepository} instead.
+ * </p>
+ *
+ * <p>
+ * A partial index keeps the reads on the rows that are not deleted, for example on PostgreSQL
+ * {@code create index users_not_deleted_idx on users (id) where is_deleted = false}, and another one
+ * keeps the purge on the deleted rows: {@code create index users_deleted_idx on users (deleted_time) where is_deleted = true}.
+ * Queries by example or by specification, and the associations of other entities, are not filtered; annotate the
+ * entity with {@code @SQLRestriction("is_deleted = false")} to filter them as well.
+ * </p>
+ *
+ * @param <E> The type representing the entity.
+ * @param <I> The type representing the identifier of the entity.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@NoRepositoryBean
+public interface SoftDeleteRepository<E extends CompactEntity<I> & SecuredEntity, I extends Serializable> extends BaseRepository<E, I> {
+
+    /**
+     * Finds an entity by its identifier unless it is deleted.
+     *
+     * @param id The identifier of the entity.
+     * @return The entity, or empty if it does not exist or is deleted.
+     */
+    @Nonnull
+    @Override
+    @Query("select e from #{#entityName} e where e.id = :id and e.isDeleted = false")
+    Optional<E> findById(@Nonnull @Param("id") I id);
+
+    /**
+     * Tells whether an entity exists and is not deleted.
+     *
+     * @param id The identifier of the entity.
+     * @return True if the entity exists and is not deleted, false otherwise.
+     */
+    @Override
+    @Query("select case when count(e) > 0 then true else false end from #{#entityName} e where e.id = :id and e.isDeleted = false")
+    boolean existsById(@Nonnull @Param("id") I id);
+
+    /**
+     * Finds the entities with the given identifiers, skipping the deleted ones.
+     *
+     * @param ids The identifiers of the entities.
+     * @return The entities that exist and are not deleted.
+     */
+    @Nonnull
+    @Override
+    @Query("select e from #{#entityName} e where e.id in :ids and e.isDeleted = false")
+    List<E> findAllById(@Nonnull @Param("ids") Iterable<I> ids);
+
+    /**
+     * Finds all entities that are not deleted.
+     *
+     * @return The entities that are not deleted.
+     */
+    @Nonnull
+    @Override
+    @Query("select e from #{#entityName} e where e.isDeleted = false")
+    List<E> findAll();
+
+    /**
+     * Finds all entities that are not deleted, in the given order.
+     *
+     * @param sort The order of the entities.
+     * @return The entities that are not deleted.
+     */
+    @Nonnull
+    @Override
+    @Query("select e from #{#entityName} e where e.isDeleted = false")
+    List<E> findAll(@Nonnull Sort sort);
+
+    /**
+     * Finds a page of the entities that are not deleted.
+     *
+     * @param pageable The Pageable object specifying the pagination information.
+     * @return A {@link Page} of the entities that are not deleted.
+     */
+    @Nonnull
+    @Override
+    @Query("select e from #{#entityName} e where e.isDeleted = false")
+    Page<E> findAll(@Nonnull Pageable pageable);
+
+    /**
+     * Counts the entities that are not deleted.
+     *
+     * @return The number of entities that are not deleted.
+     */
+    @Override
+    @Query("select count(e) from #{#entityName} e where e.isDeleted = false")
+    long count();
+
+    /**
+     * Streams the entities that are not deleted as read-only, fetching rows from the database in chunks.
+     * The stream must be consumed and closed inside a transaction.
+     *
+     * @return A {@link Stream} of the entities that are not deleted.
+     */
+    @Override
+    @Query("select e from #{#entityName} e where e.isDeleted = false")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<E> streamAll();
+
+    /**
+     * Finds a page of the entities that are not deleted without counting them.
+     *
+     * @param pageable The Pageable object specifying the pagination information.
+     * @return A {@link Slice} of the entities that are not deleted.
+     */
+    @Override
+    @Query("select e from #{#entityName} e where e.isDeleted = false")
+    Slice<E> findAllSlice(Pageable pageable);
+
+    /**
+     * Finds the first entities that are not deleted ordered by identifier, for the first page of keyset pagination.
+     *
+     * @param limit The maximum number of entities to return, such as {@code PageRequest.of(0, size + 1)}.
+     * @return The entities with the smallest identifiers.
+     */
+    @Override
+    @Query("select e from #{#entityName} e where e.isDeleted = false order by e.id asc")
+    List<E> findFirstOrderById(Pageable limit);
+
+    /**
+     * Finds the entities that are not deleted following the given identifier.
+     *
+     * @param id    The identifier of the last entity of the previous page.
+     * @param limit The maximum number of entities to return, such as {@code PageRequest.of(0, size + 1)}.
+     * @return The entities with identifiers greater than the given identifier.
+     */
+    @Override
+    @Query("select e from #{#entityName} e where e.id > :id and e.isDeleted = false order by e.id asc")
+    List<E> findAfterId(@Param("id") I id, Pageable limit);
+
+    /**
+     * Finds the first entities that are not deleted ordered by created time, for the first page of keyset pagination.
+     *
+     * @param limit The maximum number of entities to return, such as {@code PageRequest.of(0, size + 1)}.
+     * @return The oldest entities.
+     */
+    @Override
+    @Query("select e from #{#entityName} e where e.isDeleted = false order by e.createdTime asc, e.id asc")
+    List<E> findFirstOrderByCreatedTime(Pageable limit);
+
+    /**
+     * Finds the entities that are not deleted created after the given position, ordered by created time and identifier.
+     *
+     * @param createdTime The created time of the last entity of the previous page.
+     * @param id          The identifier of the last entity of the previous page.
+     * @param limit       The maximum number of entities to return, such as {@code PageRequest.of(0, size + 1)}.
+     * @return The entities following the given position.
+     */
+    @Override
+    @Query("select e from #{#entityName} e where (e.createdTime > :createdTime or (e.createdTime = :createdTime and e.id > :id)) and e.isDeleted = false order by e.createdTime asc, e.id asc")
+    List<E> findAfterCreatedTime(@Param("createdTime") Long createdTime, @Param("id") I id, Pageable limit);
+
+    /**
+     * Marks an entity as deleted now with a single {@code UPDATE}, without loading it. Does nothing if the entity
+     * does not exist or is already deleted. Must be called inside a transaction.
+     *
+     * @param id The identifier of the entity to delete.
+     */
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update #{#entityName} e set e.isDeleted = true, e.deletedTime = :#{T(java.lang.System).currentTimeMillis()} where e.id = :id and e.isDeleted = false")
+    void deleteById(@Nonnull @Param("id") I id);
+
+    /**
+     * Marks the entities with the given identifiers as deleted now with a single {@code UPDATE}, without loading them.
+     * Must be called inside a transaction.
+     *
+     * @param ids The identifiers of the entities to delete.
+     */
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update #{#entityName} e set e.isDeleted = true, e.deletedTime = :#{T(java.lang.System).currentTimeMillis()} where e.id in :ids and e.isDeleted = false")
+    void deleteAllById(@Nonnull @Param("ids") Iterable<? extends I> ids);
+
+    /**
+     * Marks an entity as deleted now, like {@link #deleteById(Serializable)}, telling whether it was deleted.
+     *
+     * @param id The identifier of the entity to delete.
+     * @return The number of entities marked as deleted, 0 if the entity does not exist or is already deleted.
+     */
+    default int softDeleteById(I id) {
+        return softDeleteById(id, System.currentTimeMillis());
+    }
+
+    /**
+     * Marks an entity as deleted with a single {@code UPDATE}, without loading it. Must be called inside a transaction.
+     *
+     * @param id          The identifier of the entity to delete.
+     * @param deletedTime The deletion time in milliseconds since the epoch.
+     * @return The number of entities marked as deleted, 0 if the entity does not exist or is already deleted.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update #{#entityName} e set e.isDeleted = true, e.deletedTime = :deletedTime where e.id = :id and e.isDeleted = false")
+    int softDeleteById(@Param("id") I id, @Param("deletedTime") Long deletedTime);
+
+    /**
+     * Finds the identifiers of the entities deleted before the given time, oldest identifiers first.
+     *
+     * @param deletedBefore The time in milliseconds since the epoch before which the entities were deleted.
+     * @param limit         The maximum number of identifiers to return, such as {@code PageRequest.of(0, 500)}.
+     * @return The identifiers of the entities to purge.
+     */
+    @Query("select e.id from #{#entityName} e where e.isDeleted = true and e.deletedTime < :deletedBefore order by e.id asc")
+    List<I> findDeletedIdsBefore(@Param("deletedBefore") Long deletedBefore, Pageable limit);
+}
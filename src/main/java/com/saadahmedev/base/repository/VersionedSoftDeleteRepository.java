@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.repository;
+
+import com.saadahmedev.base.entity.VersionedSecuredEntity;
+import jakarta.annotation.Nonnull;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.io.Serializable;
+
+/**
+ * Versioned Soft Delete Repository Interface
+ *
+ * <p>
+ * The {@link SoftDeleteRepository} of entities extending {@link VersionedSecuredEntity}. The soft deletes are issued as
+ * {@code update versioned} statements which also increment the version, so a concurrent write of a stale copy of the
+ * entity fails with an optimistic locking conflict instead of silently undoing the delete. Versioned entities must use
+ * this repository rather than {@link SoftDeleteRepository}, whose updates leave the version unchanged.
+ * </p>
+ *
+ * @param <E> The type representing the entity.
+ * @param <I> The type representing the identifier of the entity.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@NoRepositoryBean
+public interface VersionedSoftDeleteRepository<E extends VersionedSecuredEntity<I>, I extends Serializable> extends SoftDeleteRepository<E, I> {
+
+    /**
+     * Marks an entity as deleted now and increments its version with a single {@code UPDATE}, without loading it.
+     * Does nothing if the entity does not exist or is already deleted. Must be called inside a transaction.
+     *
+     * @param id The identifier of the entity to delete.
+     */
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned #{#entityName} e set e.isDeleted = true, e.deletedTime = :#{T(java.lang.System).currentTimeMillis()} where e.id = :id and e.isDeleted = false")
+    void deleteById(@Nonnull @Param("id") I id);
+
+    /**
+     * Marks the entities with the given identifiers as deleted now and increments their versions with a single
+     * {@code UPDATE}, without loading them. Must be called inside a transaction.
+     *
+     * @param ids The identifiers of the entities to delete.
+     */
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned #{#entityName} e set e.isDeleted = true, e.deletedTime = :#{T(java.lang.System).currentTimeMillis()} where e.id in :ids and e.isDeleted = false")
+    void deleteAllById(@Nonnull @Param("ids") Iterable<? extends I> ids);
+
+    /**
+     * Marks an entity as deleted and increments its version with a single {@code UPDATE}, without loading it.
+     * Must be called inside a transaction.
+     *
+     * @param id          The identifier of the entity to delete.
+     * @param deletedTime The deletion time in milliseconds since the epoch.
+     * @return The number of entities marked as deleted, 0 if the entity does not exist or is already deleted.
+     */
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned #{#entityName} e set e.isDeleted = true, e.deletedTime = :deletedTime where e.id = :id and e.isDeleted = false")
+    int softDeleteById(@Param("id") I id, @Param("deletedTime") Long deletedTime);
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.response;
+
+import com.saadahmedev.base.dto.ApiResponse;
+import com.saadahmedev.base.util.DateUtil;
+import com.saadahmedev.base.util.JsonUtil;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Response Template Class
+ *
+ * <p>
+ * A pre-serialized {@link ApiResponse} whose status and message never change. The JSON bytes around
+ * the timestamp are encoded once when the template is created, so producing a response only splices
+ * in the current timestamp, without Jackson serialization. Templates are immutable and meant to be
+ * kept in constants, for example:
+ * </p>
+ *
+ * <pre>{@code
+ * private static final ResponseTemplate DELETED = ResponseTemplate.success("Deleted successfully", HttpStatus.OK);
+ *
+ * return ServerResponse.template(DELETED);
+ * }</pre>
+ *
+ * @see ServerResponse#template(ResponseTemplate)
+ * @see ServerResponse#write(HttpServletResponse, ResponseTemplate)
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public final class ResponseTemplate {
+
+    private final HttpStatus httpStatus;
+    private final byte[] prefix;
+    private final byte[] suffix;
+
+    /**
+     * Constructs a new ResponseTemplate by serializing a sample response once.
+     *
+     * @param status     The success/failure status of the response.
+     * @param message    The message included in the response.
+     * @param httpStatus The status code of the response.
+     */
+    private ResponseTemplate(boolean status, String message, HttpStatus httpStatus) {
+        ApiResponse sample = new ApiResponse(httpStatus.value(), status, message != null ? message : "Unexpected Error Occurred");
+        String json = JsonUtil.toJson(sample);
+        int timeStampIndex = json.lastIndexOf(sample.getTimeStamp());
+
+        this.httpStatus = httpStatus;
+        this.prefix = json.substring(0, timeStampIndex).getBytes(StandardCharsets.UTF_8);
+        this.suffix = json.substring(timeStampIndex + sample.getTimeStamp().length()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a template for a success response.
+     *
+     * @param message    The message to be included in the response body.
+     * @param httpStatus The status code of the response.
+     * @return A {@link ResponseTemplate} with status true.
+     */
+    @NonNull
+    public static ResponseTemplate success(String message, HttpStatus httpStatus) {
+        return new ResponseTemplate(true, message, httpStatus);
+    }
+
+    /**
+     * Creates a template for an error response.
+     *
+     * @param message    The message to be included in the response body.
+     * @param httpStatus The status code of the response.
+     * @return A {@link ResponseTemplate} with status false.
+     */
+    @NonNull
+    public static ResponseTemplate error(String message, HttpStatus httpStatus) {
+        return new ResponseTemplate(false, message, httpStatus);
+    }
+
+    /**
+     * Gets the status code of the response.
+     *
+     * @return The {@link HttpStatus} of the response.
+     */
+    @NonNull
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+
+    /**
+     * Encodes the response body with the current timestamp.
+     *
+     * @return The UTF-8 encoded JSON body of the response.
+     */
+    @NonNull
+    public byte[] toBytes() {
+        byte[] timeStamp = DateUtil.getInstant().getBytes(StandardCharsets.US_ASCII);
+        byte[] body = new byte[prefix.length + timeStamp.length + suffix.length];
+
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(timeStamp, 0, body, prefix.length, timeStamp.length);
+        System.arraycopy(suffix, 0, body, prefix.length + timeStamp.length, suffix.length);
+        return body;
+    }
+
+    /**
+     * Returns a {@link ResponseEntity} holding the encoded response body.
+     *
+     * @return A {@link ResponseEntity} with the status code and JSON body of the template.
+     */
+    @NonNull
+    public ResponseEntity<byte[]> toResponseEntity() {
+        return ResponseEntity.status(httpStatus).contentType(MediaType.APPLICATION_JSON).body(toBytes());
+    }
+
+    /**
+     * Writes the response straight to the servlet output stream.
+     *
+     * @param response The {@link HttpServletResponse} to write to.
+     * @throws IOException If writing to the output stream fails.
+     */
+    public void writeTo(@NonNull HttpServletResponse response) throws IOException {
+        byte[] timeStamp = DateUtil.getInstant().getBytes(StandardCharsets.US_ASCII);
+
+        response.setStatus(httpStatus.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(prefix.length + timeStamp.length + suffix.length);
+
+        ServletOutputStream outputStream = response.getOutputStream();
+        outputStream.write(prefix);
+        outputStream.write(timeStamp);
+        outputStream.write(suffix);
+    }
+}
@@ -18,21 +18,25 @@ package com.saadahmedev.base.response;
 
 import com.saadahmedev.base.dto.ApiResponse;
 import com.saadahmedev.base.dto.LoginResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 
+import java.io.IOException;
+
 /**
  * Server Response Utility Class
  *
  * <p>
  * Provides utility methods for creating standardized {@link ResponseEntity} objects
  * for different HTTP responses. It includes methods for internal server error, success,
- * created, bad request, unauthorized, not found, and login responses.
+ * created, bad request, unauthorized, not found, not implemented, and login responses.
  * </p>
  *
  * @see com.saadahmedev.base.dto.ApiResponse
  * @see com.saadahmedev.base.dto.LoginResponse
+ * @see com.saadahmedev.base.response.ResponseTemplate
  * @see org.springframework.http.ResponseEntity
  * @see org.springframework.http.HttpStatus
  *
@@ -130,6 +134,28 @@ public class ServerResponse {
         return getErrorResponse(message, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Returns a {@link ResponseEntity} with conflict response.
+     *
+     * @param message The message to be included in the response body.
+     * @return A {@link ResponseEntity<ApiResponse>} with status code 409.
+     */
+    @NonNull
+    public static ResponseEntity<ApiResponse> conflict(String message) {
+        return getErrorResponse(message, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Returns a {@link ResponseEntity} with not implemented response.
+     *
+     * @param message The message to be included in the response body.
+     * @return A {@link ResponseEntity<ApiResponse>} with status code 501.
+     */
+    @NonNull
+    public static ResponseEntity<ApiResponse> notImplemented(String message) {
+        return getErrorResponse(message, HttpStatus.NOT_IMPLEMENTED);
+    }
+
     /**
      * Returns a {@link ResponseEntity} with login response.
      *
@@ -149,6 +175,29 @@ public class ServerResponse {
         );
     }
 
+    /**
+     * Returns a {@link ResponseEntity} with the pre-serialized body of a constant response.
+     *
+     * @param template The template of the response.
+     * @return A {@link ResponseEntity} with the status code and JSON body of the template.
+     */
+    @NonNull
+    public static ResponseEntity<byte[]> template(@NonNull ResponseTemplate template) {
+        return template.toResponseEntity();
+    }
+
+    /**
+     * Writes the pre-serialized body of a constant response straight to the servlet output stream,
+     * for use outside of controllers, such as in filters.
+     *
+     * @param response The {@link HttpServletResponse} to write to.
+     * @param template The template of the response.
+     * @throws IOException If writing to the output stream fails.
+     */
+    public static void write(@NonNull HttpServletResponse response, @NonNull ResponseTemplate template) throws IOException {
+        template.writeTo(response);
+    }
+
     /**
      * Generates a {@link ResponseEntity<ApiResponse>} with the specified status and message.
      *
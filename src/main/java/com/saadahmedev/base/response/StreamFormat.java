@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.response;
+
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+
+/**
+ * Stream Format Enum
+ *
+ * <p>
+ * The output formats of a {@link StreamingResponse}.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public enum StreamFormat {
+
+    /**
+     * A single JSON array written element by element.
+     */
+    JSON(MediaType.APPLICATION_JSON),
+
+    /**
+     * Newline-delimited JSON, one object per line.
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private final MediaType mediaType;
+
+    StreamFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Gets the content type of the format.
+     *
+     * @return The {@link MediaType} of the format.
+     */
+    @NonNull
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
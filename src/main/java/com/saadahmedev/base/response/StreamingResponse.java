@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.saadahmedev.base.util.JsonUtil;
+import jakarta.persistence.EntityManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streaming Response Utility Class
+ *
+ * <p>
+ * Writes a JPA {@link Stream} of entities to the response incrementally, so memory use stays flat
+ * regardless of the number of rows. Each entity is mapped, written and detached from the persistence
+ * context before the next one is read. The stream is opened in its own read-only transaction when the
+ * response body is written, after the controller method has returned. For example:
+ * </p>
+ *
+ * <pre>{@code
+ * return StreamingResponse.of(transactionTemplate, entityManager, repository::streamAll, UserResponse::new, format);
+ * }</pre>
+ *
+ * @see com.saadahmedev.base.repository.BaseRepository#streamAll()
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class StreamingResponse {
+
+    private static final int FLUSH_INTERVAL = 100;
+
+    /**
+     * Returns a {@link ResponseEntity} that streams the mapped entities in the given format.
+     *
+     * @param transactionTemplate The template used to open the read-only transaction of the stream.
+     * @param entityManager       The entity manager the streamed entities are detached from.
+     * @param source              The supplier of the entity stream, such as a repository method.
+     * @param mapper              The function mapping each entity to the object written to the response.
+     * @param format              The output format.
+     * @return A {@link ResponseEntity} with status code 200 and a streaming body.
+     * @param <E> The type of the streamed entities.
+     */
+    @NonNull
+    public static <E> ResponseEntity<StreamingResponseBody> of(
+            @NonNull TransactionTemplate transactionTemplate,
+            @NonNull EntityManager entityManager,
+            @NonNull Supplier<Stream<E>> source,
+            @NonNull Function<? super E, ?> mapper,
+            @NonNull StreamFormat format
+    ) {
+        StreamingResponseBody body = outputStream -> {
+            TransactionTemplate readOnlyTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+            readOnlyTemplate.setReadOnly(true);
+
+            readOnlyTemplate.executeWithoutResult(status -> {
+                try (Stream<E> stream = source.get();
+                     JsonGenerator generator = JsonUtil.getObjectMapper().getFactory().createGenerator(outputStream).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                    write(stream, generator, entityManager, mapper, format);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        };
+
+        return ResponseEntity.status(HttpStatus.OK).contentType(format.getMediaType()).body(body);
+    }
+
+    /**
+     * Writes every entity of the stream to the generator.
+     *
+     * @param stream        The entity stream.
+     * @param generator     The JSON generator of the response.
+     * @param entityManager The entity manager the entities are detached from.
+     * @param mapper        The function mapping each entity to the object written to the response.
+     * @param format        The output format.
+     * @param <E>           The type of the streamed entities.
+     * @throws IOException If writing to the response fails.
+     */
+    private static <E> void write(Stream<E> stream, JsonGenerator generator, EntityManager entityManager, Function<? super E, ?> mapper, StreamFormat format) throws IOException {
+        if (format == StreamFormat.JSON) generator.writeStartArray();
+        else generator.setRootValueSeparator(null);
+
+        int written = 0;
+        for (E entity : (Iterable<E>) stream::iterator) {
+            generator.writeObject(mapper.apply(entity));
+            if (format == StreamFormat.NDJSON) generator.writeRaw('\n');
+
+            entityManager.detach(entity);
+            if (++written % FLUSH_INTERVAL == 0) generator.flush();
+        }
+
+        if (format == StreamFormat.JSON) generator.writeEndArray();
+        generator.flush();
+    }
+}
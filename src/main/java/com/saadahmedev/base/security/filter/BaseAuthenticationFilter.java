@@ -18,19 +18,26 @@ package com.saadahmedev.base.security.filter;
 
 import com.saadahmedev.base.exception.exception.UnauthorizedException;
 import com.saadahmedev.base.security.service.BaseJwtService;
+import com.saadahmedev.base.security.service.ParsedToken;
+import com.saadahmedev.base.security.service.TokenPrincipal;
+import com.saadahmedev.base.security.service.UserDetailsCache;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * BaseAuthenticationFilter is an abstract class that provides a foundation for implementing
@@ -44,8 +51,14 @@ import java.io.Serializable;
  */
 public abstract class BaseAuthenticationFilter<I extends Serializable> extends OncePerRequestFilter {
 
+    /**
+     * The request attribute under which the {@link ParsedToken} of the current request is stored.
+     */
+    public static final String PARSED_TOKEN_ATTRIBUTE = ParsedToken.class.getName();
+
     private final UserDetailsService userDetailsService;
     private final BaseJwtService<I> baseJwtService;
+    private final UserDetailsCache userDetailsCache;
 
     /**
      * Constructs a new BaseAuthenticationFilter with the provided UserDetailsService and BaseJwtService.
@@ -54,8 +67,20 @@ public abstract class BaseAuthenticationFilter<I extends Serializable> extends O
      * @param baseJwtService     The service for handling JWTs.
      */
     protected BaseAuthenticationFilter(UserDetailsService userDetailsService, BaseJwtService<I> baseJwtService) {
+        this(userDetailsService, baseJwtService, null);
+    }
+
+    /**
+     * Constructs a new BaseAuthenticationFilter that caches the loaded user details.
+     *
+     * @param userDetailsService The service to load user details.
+     * @param baseJwtService     The service for handling JWTs.
+     * @param userDetailsCache   The cache of loaded user details, or null to load the user on every request.
+     */
+    protected BaseAuthenticationFilter(UserDetailsService userDetailsService, BaseJwtService<I> baseJwtService, @Nullable UserDetailsCache userDetailsCache) {
         this.userDetailsService = userDetailsService;
         this.baseJwtService = baseJwtService;
+        this.userDetailsCache = userDetailsCache;
     }
 
     /**
@@ -68,36 +93,159 @@ public abstract class BaseAuthenticationFilter<I extends Serializable> extends O
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) {
         String authorizationHeader = request.getHeader("Authorization");
-        String username = null;
-        String accessToken = null;
+        ParsedToken<I> parsedToken = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ") && authorizationHeader.length() > 7) {
-            accessToken = authorizationHeader.substring(7);
-
             try {
-                username = baseJwtService.getUsername(accessToken);
+                parsedToken = baseJwtService.parseToken(authorizationHeader.substring(7));
             } catch (Exception e) {
                 throw new UnauthorizedException("Valid JSON web token is missing.");
             }
+
+            request.setAttribute(PARSED_TOKEN_ATTRIBUTE, parsedToken);
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (parsedToken != null && parsedToken.getUsername() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (parsedToken.isExpired()) throw new UnauthorizedException("Token has been expired.");
+            if (baseJwtService.isTokenRevoked(parsedToken)) throw new UnauthorizedException("Token has been revoked.");
 
-            if (!baseJwtService.isTokenExpired(accessToken)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails.getUsername(),
-                        userDetails.getPassword(),
-                        userDetails.getAuthorities()
-                );
+            UsernamePasswordAuthenticationToken authToken = isStateless()
+                    ? authenticateFromClaims(parsedToken)
+                    : authenticateFromUserDetails(loadUserDetails(parsedToken.getUsername()));
 
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            } else throw new UnauthorizedException("Token has been expired.");
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
 
         doFilter(request, response, filterChain);
     }
 
+    /**
+     * Indicates whether the filter trusts the claims of a verified token instead of loading the user.
+     * In stateless mode the {@link UserDetailsService} is never called; the principal is a
+     * {@link TokenPrincipal} and the authorities come from the role and authorities claims.
+     *
+     * @return true to authenticate from the token claims only, false to load the user (the default).
+     *
+     * @see #getId(ParsedToken)
+     * @see #getRoleClaimKey()
+     * @see #getAuthoritiesClaimKey()
+     */
+    protected boolean isStateless() {
+        return false;
+    }
+
+    /**
+     * Extracts the identifier of the user from the token in stateless mode,
+     * for example {@code token.getId("id", Long.class)}.
+     *
+     * @param token The parsed token of the request.
+     * @return The identifier of the user, or null if the token does not carry one (the default).
+     */
+    @Nullable
+    protected I getId(@Nonnull ParsedToken<I> token) {
+        return null;
+    }
+
+    /**
+     * Returns the claim key holding the role of the user in stateless mode.
+     * The role is granted with the {@code ROLE_} prefix.
+     *
+     * @return The role claim key, or null if tokens carry no role (the default).
+     */
+    @Nullable
+    protected String getRoleClaimKey() {
+        return null;
+    }
+
+    /**
+     * Returns the claim key holding the list of authorities of the user in stateless mode.
+     *
+     * @return The authorities claim key, or null if tokens carry no authorities (the default).
+     */
+    @Nullable
+    protected String getAuthoritiesClaimKey() {
+        return null;
+    }
+
+    /**
+     * Builds the authentication of the request from the loaded user details.
+     *
+     * @param userDetails The details of the authenticated user.
+     * @return The {@link UsernamePasswordAuthenticationToken} of the request.
+     */
+    @Nonnull
+    private UsernamePasswordAuthenticationToken authenticateFromUserDetails(@Nonnull UserDetails userDetails) {
+        return new UsernamePasswordAuthenticationToken(
+                userDetails.getUsername(),
+                userDetails.getPassword(),
+                userDetails.getAuthorities()
+        );
+    }
+
+    /**
+     * Builds the authentication of the request from the claims of the token only.
+     *
+     * @param token The parsed token of the request.
+     * @return The {@link UsernamePasswordAuthenticationToken} of the request.
+     */
+    @Nonnull
+    private UsernamePasswordAuthenticationToken authenticateFromClaims(@Nonnull ParsedToken<I> token) {
+        List<GrantedAuthority> grantedAuthorities = new ArrayList<>();
+
+        String roleClaimKey = getRoleClaimKey();
+        String role = roleClaimKey != null ? token.getRole(roleClaimKey) : null;
+        if (role != null) {
+            grantedAuthorities.add(new SimpleGrantedAuthority(role.startsWith("ROLE_") ? role : "ROLE_" + role));
+        }
+
+        String authoritiesClaimKey = getAuthoritiesClaimKey();
+        List<String> authorities = authoritiesClaimKey != null ? token.getAuthorities(authoritiesClaimKey) : null;
+        if (authorities != null) {
+            for (String authority : authorities) {
+                grantedAuthorities.add(new SimpleGrantedAuthority(authority));
+            }
+        }
+
+        return new UsernamePasswordAuthenticationToken(
+                new TokenPrincipal<>(token.getUsername(), getId(token)),
+                null,
+                grantedAuthorities
+        );
+    }
+
+    /**
+     * Loads the details of the given user, reading them from the {@link UserDetailsCache} when one is configured.
+     *
+     * @param username The username of the user to load.
+     * @return The {@link UserDetails} of the user.
+     */
+    @Nonnull
+    protected UserDetails loadUserDetails(@Nonnull String username) {
+        if (userDetailsCache == null) return userDetailsService.loadUserByUsername(username);
+
+        UserDetails userDetails = userDetailsCache.get(username);
+        if (userDetails == null) {
+            userDetails = userDetailsService.loadUserByUsername(username);
+            userDetailsCache.put(username, userDetails);
+        }
+
+        return userDetails;
+    }
+
+    /**
+     * Gets the token parsed by this filter for the given request, so that subclasses and request
+     * handlers can read its claims without verifying the token again.
+     *
+     * @param request The HttpServletRequest object.
+     * @return The {@link ParsedToken} of the request, or null if the request carried no bearer token.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    protected ParsedToken<I> getParsedToken(@Nonnull HttpServletRequest request) {
+        return (ParsedToken<I>) request.getAttribute(PARSED_TOKEN_ATTRIBUTE);
+    }
+
     /**
      * Abstract method to be implemented by subclasses for custom filtering logic.
      *
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.security.revocation;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-Memory Token Revocation Store Class
+ *
+ * <p>
+ * A {@link TokenRevocationStore} kept in the memory of a single application instance.
+ * Suitable for a single node or for tests; horizontally scaled deployments should back
+ * the store with a shared database or cache instead.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<String, Long> revokedSubjects = new ConcurrentHashMap<>();
+
+    @Override
+    public void revokeToken(@Nonnull String tokenId, @Nullable Date expiresAt) {
+        revokedTokens.put(tokenId, expiresAt != null ? expiresAt.getTime() : Long.MAX_VALUE);
+    }
+
+    @Override
+    public void revokeSubject(@Nonnull String subject, long revokedAt) {
+        revokedSubjects.merge(subject, revokedAt, Math::max);
+    }
+
+    @Override
+    public boolean isTokenRevoked(@Nonnull String tokenId) {
+        return revokedTokens.containsKey(tokenId);
+    }
+
+    @Nullable
+    @Override
+    public Long getSubjectRevokedAt(@Nonnull String subject) {
+        return revokedSubjects.get(subject);
+    }
+
+    @Nonnull
+    @Override
+    public Collection<String> getRevokedTokenIds() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+        return List.copyOf(revokedTokens.keySet());
+    }
+
+    @Nonnull
+    @Override
+    public Collection<String> getRevokedSubjects(long revokedSince) {
+        revokedSubjects.values().removeIf(revokedAt -> revokedAt < revokedSince);
+        return List.copyOf(revokedSubjects.keySet());
+    }
+}
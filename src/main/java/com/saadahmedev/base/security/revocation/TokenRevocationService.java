@@ -0,0 +1,215 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.security.revocation;
+
+import com.saadahmedev.base.cache.BloomFilter;
+import com.saadahmedev.base.security.service.ParsedToken;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Date;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Token Revocation Service Class
+ *
+ * <p>
+ * Revokes JWT tokens by their unique identifier (jti) or by subject, before they expire.
+ * Revocations are written to a {@link TokenRevocationStore} and mirrored in an in-memory
+ * {@link BloomFilter}, so checking a token that was never revoked costs no store lookup.
+ * Only a possible hit in the filter is confirmed against the store.
+ * </p>
+ *
+ * <p>
+ * The filter only knows the revocations made through this instance or loaded by {@link #reload()}.
+ * When several application instances share a store, call {@link #reload()} periodically or
+ * {@link #markTokenRevoked(String)} and {@link #markSubjectRevoked(String)} when another
+ * instance announces a revocation.
+ * </p>
+ *
+ * <p>
+ * A subject revocation covers the tokens issued at or before it, and is ignored and dropped on
+ * {@link #reload()} once the maximum token lifetime has passed, as every token it covers has expired
+ * by then. Since the iat claim only has a precision of seconds, the revocation time is truncated to
+ * seconds too: a token issued in the same second as the revocation, even just after it, is revoked
+ * as well, so a subject signing in again may have to wait up to one second for a usable token. A
+ * token without an iat claim is assumed to be issued as early as its expiration allows, and one
+ * without both is revoked until the subject revocation expires.
+ * </p>
+ *
+ * @see com.saadahmedev.base.security.service.BaseJwtService#getRevocationService()
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class TokenRevocationService {
+
+    private static final String TOKEN_PREFIX = "jti:";
+    private static final String SUBJECT_PREFIX = "sub:";
+
+    private final TokenRevocationStore store;
+    private final long maxTokenLifetimeMillis;
+    private final long expectedRevocations;
+    private final double falsePositiveProbability;
+    private final ReadWriteLock filterLock = new ReentrantReadWriteLock();
+    private volatile BloomFilter filter;
+
+    /**
+     * Constructs a new TokenRevocationService and loads the existing revocations from the store.
+     *
+     * @param store                    The authoritative store of revocations.
+     * @param maxTokenLifetimeMillis   The longest time in milliseconds between the issue and the expiration of a token.
+     * @param expectedRevocations      The number of live revocations the filter is sized for.
+     * @param falsePositiveProbability The desired probability of a needless store lookup.
+     */
+    public TokenRevocationService(@Nonnull TokenRevocationStore store, long maxTokenLifetimeMillis, long expectedRevocations, double falsePositiveProbability) {
+        if (maxTokenLifetimeMillis <= 0) throw new IllegalArgumentException("Max token lifetime must be positive");
+
+        this.store = store;
+        this.maxTokenLifetimeMillis = maxTokenLifetimeMillis;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveProbability = falsePositiveProbability;
+        reload();
+    }
+
+    /**
+     * Revokes a single token.
+     *
+     * @param token The parsed token to revoke. Tokens without a jti claim cannot be revoked individually.
+     */
+    public void revokeToken(@Nonnull ParsedToken<?> token) {
+        String tokenId = token.getTokenId();
+        if (tokenId == null) throw new IllegalArgumentException("Token has no jti claim");
+
+        revokeToken(tokenId, token.getExpiration());
+    }
+
+    /**
+     * Revokes a single token by its unique identifier.
+     *
+     * @param tokenId   The unique identifier (jti) of the token.
+     * @param expiresAt The expiration date of the token.
+     */
+    public void revokeToken(@Nonnull String tokenId, @Nullable Date expiresAt) {
+        store.revokeToken(tokenId, expiresAt);
+        markTokenRevoked(tokenId);
+    }
+
+    /**
+     * Revokes every token of a subject issued up to now, including the tokens issued later in the current second.
+     *
+     * @param subject The subject (username) whose tokens are revoked.
+     */
+    public void revokeSubject(@Nonnull String subject) {
+        store.revokeSubject(subject, System.currentTimeMillis() / 1000 * 1000);
+        markSubjectRevoked(subject);
+    }
+
+    /**
+     * Adds a token revoked elsewhere to the in-memory filter without writing to the store.
+     *
+     * @param tokenId The unique identifier (jti) of the token.
+     */
+    public void markTokenRevoked(@Nonnull String tokenId) {
+        put(TOKEN_PREFIX + tokenId);
+    }
+
+    /**
+     * Adds a subject revoked elsewhere to the in-memory filter without writing to the store.
+     *
+     * @param subject The subject (username) whose tokens were revoked.
+     */
+    public void markSubjectRevoked(@Nonnull String subject) {
+        put(SUBJECT_PREFIX + subject);
+    }
+
+    /**
+     * Checks if the given token has been revoked, either individually or through its subject.
+     *
+     * @param token The parsed token to check.
+     * @return true if the token has been revoked, false otherwise.
+     */
+    public boolean isRevoked(@Nonnull ParsedToken<?> token) {
+        String tokenId = token.getTokenId();
+        if (tokenId != null && filter.mightContain(TOKEN_PREFIX + tokenId) && store.isTokenRevoked(tokenId)) {
+            return true;
+        }
+
+        String subject = token.getUsername();
+        if (subject != null && filter.mightContain(SUBJECT_PREFIX + subject)) {
+            Long revokedAt = store.getSubjectRevokedAt(subject);
+            return revokedAt != null && revokedAt >= getRevokedSince() && getIssuedAt(token) <= revokedAt;
+        }
+
+        return false;
+    }
+
+    /**
+     * Rebuilds the in-memory filter from the store, dropping tokens that have expired since and subject revocations
+     * older than the maximum token lifetime. Revocations
+     * marked while the filter is rebuilt wait for the new filter, so none of them is lost with the old one.
+     */
+    public void reload() {
+        filterLock.writeLock().lock();
+        try {
+            BloomFilter reloaded = new BloomFilter(expectedRevocations, falsePositiveProbability);
+            store.getRevokedTokenIds().forEach(tokenId -> reloaded.put(TOKEN_PREFIX + tokenId));
+            store.getRevokedSubjects(getRevokedSince()).forEach(subject -> reloaded.put(SUBJECT_PREFIX + subject));
+            filter = reloaded;
+        } finally {
+            filterLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the earliest time a subject revocation can still cover a token that has not expired.
+     *
+     * @return The current time minus the maximum token lifetime, in milliseconds since the epoch.
+     */
+    private long getRevokedSince() {
+        return System.currentTimeMillis() - maxTokenLifetimeMillis;
+    }
+
+    /**
+     * Gets the issue time of a token, or without an iat claim, the earliest issue time its expiration allows.
+     *
+     * @param token The parsed token.
+     * @return The issue time in milliseconds since the epoch, or the minimum value if the token has neither claim.
+     */
+    private long getIssuedAt(@Nonnull ParsedToken<?> token) {
+        Date issuedAt = token.getIssuedAt();
+        if (issuedAt != null) return issuedAt.getTime();
+
+        Date expiration = token.getExpiration();
+        return expiration != null ? expiration.getTime() - maxTokenLifetimeMillis : Long.MIN_VALUE;
+    }
+
+    /**
+     * Adds a value to the current filter. Concurrent additions share the read lock, as the filter is thread-safe,
+     * while a {@link #reload()} in progress holds the write lock until the new filter is in place.
+     *
+     * @param value The prefixed value to add.
+     */
+    private void put(@Nonnull String value) {
+        filterLock.readLock().lock();
+        try {
+            filter.put(value);
+        } finally {
+            filterLock.readLock().unlock();
+        }
+    }
+}
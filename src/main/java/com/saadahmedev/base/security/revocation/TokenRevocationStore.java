@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.security.revocation;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Interface for the authoritative store of revoked JWT tokens.
+ *
+ * <p>
+ * The store is only consulted by {@link TokenRevocationService} when its in-memory filter reports
+ * a possible revocation, so lookups may be as expensive as a database query.
+ * </p>
+ *
+ * @see InMemoryTokenRevocationStore
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * Records a single token as revoked.
+     *
+     * @param tokenId   The unique identifier (jti) of the token.
+     * @param expiresAt The expiration date of the token, after which the record may be discarded.
+     */
+    void revokeToken(@Nonnull String tokenId, @Nullable Date expiresAt);
+
+    /**
+     * Records every token of a subject issued at or before the given time as revoked.
+     *
+     * @param subject   The subject (username) whose tokens are revoked.
+     * @param revokedAt The revocation time in milliseconds since the epoch.
+     */
+    void revokeSubject(@Nonnull String subject, long revokedAt);
+
+    /**
+     * Checks if the given token has been revoked.
+     *
+     * @param tokenId The unique identifier (jti) of the token.
+     * @return true if the token has been revoked, false otherwise.
+     */
+    boolean isTokenRevoked(@Nonnull String tokenId);
+
+    /**
+     * Gets the time at which the tokens of the given subject were revoked.
+     *
+     * @param subject The subject (username) to look up.
+     * @return The revocation time in milliseconds since the epoch, or null if the subject was never revoked.
+     */
+    @Nullable
+    Long getSubjectRevokedAt(@Nonnull String subject);
+
+    /**
+     * Gets the identifiers of all revoked tokens that have not expired yet.
+     *
+     * @return The identifiers (jti) of the revoked tokens.
+     */
+    @Nonnull
+    Collection<String> getRevokedTokenIds();
+
+    /**
+     * Gets the subjects revoked at or after the given time. Older revocations only cover tokens that have
+     * expired since, so the store may discard them.
+     *
+     * @param revokedSince The earliest revocation time to return, in milliseconds since the epoch.
+     * @return The revoked subjects.
+     */
+    @Nonnull
+    Collection<String> getRevokedSubjects(long revokedSince);
+}
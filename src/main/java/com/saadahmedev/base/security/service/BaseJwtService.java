@@ -16,17 +16,16 @@
 
 package com.saadahmedev.base.security.service;
 
+import com.saadahmedev.base.security.revocation.TokenRevocationService;
 import io.jsonwebtoken.Claims;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
 import java.io.Serializable;
 import java.security.Key;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 
 /**
  * BaseJwtService provides a foundation for simplifying JWT (JSON Web Token) handling,
@@ -40,16 +39,53 @@ import java.util.function.Function;
  */
 public abstract class BaseJwtService<I extends Serializable> {
 
+    /**
+     * Parses and verifies the JWT token once and returns a holder for its claims.
+     * Callers that need more than one claim from the same token should read them from
+     * the returned {@link ParsedToken} instead of calling the token-based accessors repeatedly.
+     *
+     * @param token The JWT token to parse.
+     * @return The {@link ParsedToken} holding the verified claims of the token.
+     *
+     * @see #getClaimsFromToken(String)
+     */
+    @Nonnull
+    public ParsedToken<I> parseToken(String token) {
+        TokenClaimsCache claimsCache = getClaimsCache();
+        if (claimsCache == null) return new ParsedToken<>(getClaimsFromToken(token));
+
+        Claims claims = claimsCache.get(token);
+        if (claims == null) {
+            claims = getClaimsFromToken(token);
+            claimsCache.put(token, claims);
+        }
+
+        return new ParsedToken<>(claims);
+    }
+
+    /**
+     * Checks if the parsed token has been revoked before its expiration.
+     *
+     * @param token The parsed token to check.
+     * @return true if the token has been revoked, false otherwise or if no revocation service is configured.
+     *
+     * @see #getRevocationService()
+     */
+    public boolean isTokenRevoked(@Nonnull ParsedToken<I> token) {
+        TokenRevocationService revocationService = getRevocationService();
+        return revocationService != null && revocationService.isRevoked(token);
+    }
+
     /**
      * Retrieves the username from the JWT token.
      *
      * @param token The JWT token from which to extract the username.
      * @return The username extracted from the token.
      *
-     * @see #getClaimsFromToken(String)
+     * @see #parseToken(String)
      */
     public String getUsername(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
+        return parseToken(token).getUsername();
     }
 
     /**
@@ -57,9 +93,11 @@ public abstract class BaseJwtService<I extends Serializable> {
      *
      * @param token The JWT token to check for expiration.
      * @return true if the token is expired, false otherwise.
+     *
+     * @see #parseToken(String)
      */
     public boolean isTokenExpired(String token) {
-        return getExpirationDateFromToken(token).before(new Date());
+        return parseToken(token).isExpired();
     }
 
     /**
@@ -70,10 +108,10 @@ public abstract class BaseJwtService<I extends Serializable> {
      * @param clazz The class type of the ID.
      * @return The ID extracted from the token.
      *
-     * @see #getClaimsFromToken(String)
+     * @see #parseToken(String)
      */
     public I getId(String token, String key, Class<I> clazz) {
-        return getClaimsFromToken(token).get(key, clazz);
+        return parseToken(token).getId(key, clazz);
     }
 
     /**
@@ -83,11 +121,11 @@ public abstract class BaseJwtService<I extends Serializable> {
      * @param key   The Claims map key
      * @return the Role extracted from the token
      *
-     * @see #getClaimsFromToken(String)
+     * @see #parseToken(String)
      */
     @Nullable
     public String getRole(String token, String key) {
-        return getClaimsFromToken(token).get(key, String.class);
+        return parseToken(token).getRole(key);
     }
 
     /**
@@ -97,34 +135,13 @@ public abstract class BaseJwtService<I extends Serializable> {
      * @param key   The claim key specifying the list of authorities in the token.
      * @return A List of String representing the authorities extracted from the token.
      *         Returns null if the claim value is not a list of String or if the claim is not present.
-     * {@literal @SuppressWarnings("unchecked")} This annotation is used to suppress unchecked warnings
-     *                              generated by casting the claim value to list of String.
-     *                              The implementation assumes that the claim value is intended
-     *                              to be a list of String based on the provided key.
-     *                              If the claim value is not a list of String, null is returned.
      *
-     * @see #getClaimsFromToken(String)
+     * @see #parseToken(String)
+     * @see ParsedToken#getAuthorities(String)
      */
-    @SuppressWarnings("unchecked")
     @Nullable
     public List<String> getAuthorities(String token, String key) {
-        Object authorities = getClaimsFromToken(token).get(key);
-        if (authorities instanceof List<?>) {
-            return (List<String>) authorities;
-        }
-        return null;
-    }
-
-    /**
-     * Retrieves the expiration date from token
-     *
-     * @param token The JWT token from which to extract the expiration date
-     * @return The expiration date from token
-     *
-     * @see #getClaimsFromToken(String)
-     */
-    private Date getExpirationDateFromToken(String token) {
-        return getClaimFromToken(token, Claims::getExpiration);
+        return parseToken(token).getAuthorities(key);
     }
 
     /**
@@ -160,17 +177,26 @@ public abstract class BaseJwtService<I extends Serializable> {
     protected abstract String generateAccessToken(Map<String, Object> claims, String username);
 
     /**
-     * Returns specific claim from the token
+     * Returns the cache of verified claims used by {@link #parseToken(String)}.
+     * Override this method to return a shared {@link TokenClaimsCache} instance so that
+     * a token sent on many requests is verified only once until it expires.
      *
-     * @param token         is required to get the specific claim from token
-     * @param claimResolver is required to specify which claim to get
-     * @param <T>           is to specify which claim to get
-     * @return {@link io.jsonwebtoken.Claims}   which will be extracted from the token
+     * @return The {@link TokenClaimsCache} to use, or null to verify every token (the default).
+     */
+    @Nullable
+    protected TokenClaimsCache getClaimsCache() {
+        return null;
+    }
+
+    /**
+     * Returns the service used by {@link #isTokenRevoked(ParsedToken)} to check revoked tokens.
+     * Override this method to return a shared {@link TokenRevocationService} instance.
      *
-     * @see #getClaimsFromToken(String)
+     * @return The {@link TokenRevocationService} to use, or null if tokens cannot be revoked (the default).
      */
-    private <T> T getClaimFromToken(String token, @Nonnull Function<Claims, T> claimResolver) {
-        return claimResolver.apply(getClaimsFromToken(token));
+    @Nullable
+    protected TokenRevocationService getRevocationService() {
+        return null;
     }
 
     /**
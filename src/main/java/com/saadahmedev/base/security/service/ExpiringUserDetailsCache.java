@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.security.service;
+
+import com.saadahmedev.base.cache.ExpiringCache;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Expiring User Details Cache Class
+ *
+ * <p>
+ * An in-memory {@link UserDetailsCache} that keeps a bounded number of users for a fixed
+ * time to live, evicting the least recently used user when full.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class ExpiringUserDetailsCache implements UserDetailsCache {
+
+    private final ExpiringCache<String, UserDetails> cache;
+
+    /**
+     * Constructs a new ExpiringUserDetailsCache.
+     *
+     * @param maximumSize      The maximum number of users kept in the cache.
+     * @param timeToLiveMillis The time in milliseconds a user stays cached.
+     */
+    public ExpiringUserDetailsCache(int maximumSize, long timeToLiveMillis) {
+        this.cache = new ExpiringCache<>(maximumSize, timeToLiveMillis);
+    }
+
+    @Nullable
+    @Override
+    public UserDetails get(@Nonnull String username) {
+        return cache.get(username);
+    }
+
+    @Override
+    public void put(@Nonnull String username, @Nonnull UserDetails userDetails) {
+        cache.put(username, userDetails);
+    }
+
+    @Override
+    public void invalidate(@Nonnull String username) {
+        cache.invalidate(username);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Gets the number of lookups that found the user in the cache.
+     *
+     * @return The hit count of the cache.
+     */
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * Gets the number of lookups that did not find the user in the cache.
+     *
+     * @return The miss count of the cache.
+     */
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+}
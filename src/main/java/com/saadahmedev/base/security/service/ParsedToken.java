@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.security.service;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * ParsedToken Class
+ *
+ * <p>
+ * Holds the {@link io.jsonwebtoken.Claims} of a JWT token that has already been parsed and verified
+ * by {@link BaseJwtService#parseToken(String)}. Every accessor reads from the same claims instance,
+ * so the signature of a token is verified only once no matter how many claims are read from it.
+ * </p>
+ *
+ * @param <I> The type of the identifier stored in the JWT claims.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public final class ParsedToken<I extends Serializable> {
+
+    private final Claims claims;
+
+    /**
+     * Constructs a new ParsedToken from already verified claims.
+     *
+     * @param claims The verified claims of the token.
+     */
+    ParsedToken(@Nonnull Claims claims) {
+        this.claims = claims;
+    }
+
+    /**
+     * Gets the verified claims of the token.
+     *
+     * @return The {@link io.jsonwebtoken.Claims} of the token.
+     */
+    @Nonnull
+    public Claims getClaims() {
+        return claims;
+    }
+
+    /**
+     * Gets the username (subject) of the token.
+     *
+     * @return The username stored in the token.
+     */
+    public String getUsername() {
+        return claims.getSubject();
+    }
+
+    /**
+     * Gets the unique identifier (jti) of the token.
+     *
+     * @return The token identifier, or null if the token has none.
+     */
+    @Nullable
+    public String getTokenId() {
+        return claims.getId();
+    }
+
+    /**
+     * Gets the date at which the token was issued.
+     *
+     * @return The issue date, or null if the token has none.
+     */
+    @Nullable
+    public Date getIssuedAt() {
+        return claims.getIssuedAt();
+    }
+
+    /**
+     * Gets the expiration date of the token.
+     *
+     * @return The expiration date, or null if the token never expires.
+     */
+    @Nullable
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    /**
+     * Checks if the token is expired.
+     *
+     * @return true if the token is expired, false otherwise.
+     */
+    public boolean isExpired() {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() < System.currentTimeMillis();
+    }
+
+    /**
+     * Gets the ID stored in the token.
+     *
+     * @param key   The Claims map key
+     * @param clazz The class type of the ID.
+     * @return The ID extracted from the token.
+     */
+    public I getId(String key, Class<I> clazz) {
+        return claims.get(key, clazz);
+    }
+
+    /**
+     * Gets the Role stored in the token.
+     *
+     * @param key The Claims map key
+     * @return the Role extracted from the token
+     */
+    @Nullable
+    public String getRole(String key) {
+        return claims.get(key, String.class);
+    }
+
+    /**
+     * Gets the list of authorities stored in the token.
+     *
+     * @param key The claim key specifying the list of authorities in the token.
+     * @return A List of String representing the authorities, or null if the claim is not a list.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public List<String> getAuthorities(String key) {
+        Object authorities = claims.get(key);
+        if (authorities instanceof List<?>) {
+            return (List<String>) authorities;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.security.service;
+
+import com.saadahmedev.base.cache.ExpiringCache;
+import com.saadahmedev.base.exception.exception.ApiException;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+
+/**
+ * Token Claims Cache Class
+ *
+ * <p>
+ * Caches the verified {@link io.jsonwebtoken.Claims} of JWT tokens so that a token sent on many
+ * requests is verified only once. Entries are keyed by the SHA-256 hash of the token, so the raw
+ * token is never kept in memory, and they are evicted no later than the expiration of the token.
+ * The cached claims are shared between requests and must not be modified.
+ * </p>
+ *
+ * @see BaseJwtService#getClaimsCache()
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class TokenClaimsCache {
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new ApiException(exception);
+        }
+    });
+
+    private final ExpiringCache<ByteBuffer, Claims> cache;
+
+    /**
+     * Constructs a new TokenClaimsCache.
+     *
+     * @param maximumSize      The maximum number of tokens kept in the cache.
+     * @param timeToLiveMillis The maximum time in milliseconds a token stays cached, even if it expires later.
+     */
+    public TokenClaimsCache(int maximumSize, long timeToLiveMillis) {
+        this.cache = new ExpiringCache<>(maximumSize, timeToLiveMillis);
+    }
+
+    /**
+     * Gets the cached claims of the given token.
+     *
+     * @param token The JWT token to look up.
+     * @return The verified claims of the token, or null if the token is not cached.
+     */
+    @Nullable
+    public Claims get(@Nonnull String token) {
+        return cache.get(hash(token));
+    }
+
+    /**
+     * Caches the verified claims of the given token until the token expires.
+     *
+     * @param token  The JWT token the claims were parsed from.
+     * @param claims The verified claims of the token.
+     */
+    public void put(@Nonnull String token, @Nonnull Claims claims) {
+        Date expiration = claims.getExpiration();
+
+        if (expiration == null) cache.put(hash(token), claims);
+        else if (expiration.getTime() > System.currentTimeMillis()) cache.put(hash(token), claims, expiration.getTime());
+    }
+
+    /**
+     * Removes the given token from the cache.
+     *
+     * @param token The JWT token to remove.
+     */
+    public void invalidate(@Nonnull String token) {
+        cache.invalidate(hash(token));
+    }
+
+    /**
+     * Removes all tokens from the cache.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Gets the number of lookups that found the token in the cache.
+     *
+     * @return The hit count of the cache.
+     */
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * Gets the number of lookups that did not find the token in the cache.
+     *
+     * @return The miss count of the cache.
+     */
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * Hashes the given token into a compact cache key.
+     *
+     * @param token The JWT token to hash.
+     * @return The SHA-256 hash of the token.
+     */
+    @Nonnull
+    private static ByteBuffer hash(@Nonnull String token) {
+        return ByteBuffer.wrap(DIGEST.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.security.service;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.security.Principal;
+
+/**
+ * TokenPrincipal Class
+ *
+ * <p>
+ * The authenticated principal built directly from the claims of a JWT token, without loading
+ * the user from the database. Holds the username and, when available, the identifier of the user.
+ * </p>
+ *
+ * @param <I> The type of the identifier stored in the JWT claims.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public final class TokenPrincipal<I extends Serializable> implements Principal, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The username of the authenticated user.
+     */
+    private final String username;
+
+    /**
+     * The identifier of the authenticated user.
+     */
+    private final I id;
+
+    /**
+     * Constructs a new TokenPrincipal.
+     *
+     * @param username The username of the authenticated user.
+     * @param id       The identifier of the authenticated user, if present in the token.
+     */
+    public TokenPrincipal(@Nonnull String username, @Nullable I id) {
+        this.username = username;
+        this.id = id;
+    }
+
+    /**
+     * Gets the username of the authenticated user.
+     *
+     * @return The username.
+     */
+    @Nonnull
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    /**
+     * Gets the identifier of the authenticated user.
+     *
+     * @return The identifier, or null if the token does not carry one.
+     */
+    @Nullable
+    public I getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.security.service;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Interface for caching {@link UserDetails} loaded by the authentication filter.
+ *
+ * <p>
+ * Implementations must bound the time an entry stays cached. Whenever a user is locked, deleted,
+ * expired or deactivated (see {@link com.saadahmedev.base.entity.BaseSecuredEntity}), or its
+ * authorities change, {@link #invalidate(String)} must be called so that the next request
+ * loads the user again.
+ * </p>
+ *
+ * @see ExpiringUserDetailsCache
+ * @see com.saadahmedev.base.security.filter.BaseAuthenticationFilter
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public interface UserDetailsCache {
+
+    /**
+     * Gets the cached details of the given user.
+     *
+     * @param username The username to look up.
+     * @return The cached {@link UserDetails}, or null if the user is not cached.
+     */
+    @Nullable
+    UserDetails get(@Nonnull String username);
+
+    /**
+     * Caches the details of the given user.
+     *
+     * @param username    The username of the user.
+     * @param userDetails The {@link UserDetails} to cache.
+     */
+    void put(@Nonnull String username, @Nonnull UserDetails userDetails);
+
+    /**
+     * Removes the given user from the cache.
+     *
+     * @param username The username of the user to remove.
+     */
+    void invalidate(@Nonnull String username);
+
+    /**
+     * Removes all users from the cache.
+     */
+    void invalidateAll();
+}
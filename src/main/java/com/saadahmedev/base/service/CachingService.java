@@ -0,0 +1,363 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.saadahmedev.base.cache.ExpiringCache;
+import com.saadahmedev.base.cache.SingleFlight;
+import com.saadahmedev.base.response.ServerResponse;
+import com.saadahmedev.base.response.StreamFormat;
+import com.saadahmedev.base.service.functional.PatchService;
+import com.saadahmedev.base.util.JsonUtil;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Caching decorator for a {@link BaseService}.
+ *
+ * <p>
+ * Serves {@link #findById(Object)} and {@link #findProjection(Object)} from a bounded in-heap cache
+ * with a fixed time to live, so that frequently read entities do not hit the database on every read.
+ * Only successful responses are cached, and concurrent misses on the same identifier share a single
+ * load through {@link SingleFlight}, so an expiring hot entry does not cause a burst of identical queries.
+ * A response is cached as its serialized JSON body rather than as the returned objects, so that no managed
+ * entity outlives the persistence context it was loaded in or is shared between threads, and every read,
+ * including the one that loaded it, gets the same detached copy.
+ * Entries are evicted automatically when the same service updates, patches or deletes the entity,
+ * and all entries are evicted on a bulk update, once right away and again after the surrounding
+ * transaction commits.
+ * Every eviction also bumps a generation counter, and a load only caches its response if the
+ * generation of its identifier did not change meanwhile, so a load racing with a write cannot put the
+ * value it read before the write back into the cache. The counters are striped by the hash of the
+ * identifier to keep their memory bounded, so an eviction may also skip caching a concurrent load of
+ * another identifier sharing its stripe.
+ * Writes made outside of this service must call {@link #evict(Object)}. Every other operation is
+ * delegated unchanged.
+ * </p>
+ *
+ * @param <I> The type representing the identifier for entities.
+ * @param <D> The type representing the request body for entities.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class CachingService<I, D> extends BaseService<I, D> implements PatchService<I> {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final BaseService<I, D> delegate;
+    private final ExpiringCache<I, CachedResponse> findCache;
+    private final ExpiringCache<I, CachedResponse> projectionCache;
+    private final SingleFlight<LoadKey, ResponseEntity<?>> singleFlight = new SingleFlight<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong epoch = new AtomicLong();
+
+    /**
+     * Constructs a new CachingService.
+     *
+     * @param delegate         The service whose reads are cached.
+     * @param maximumSize      The maximum number of entities kept in each cache.
+     * @param timeToLiveMillis The time in milliseconds an entity stays cached.
+     */
+    public CachingService(@Nonnull BaseService<I, D> delegate, int maximumSize, long timeToLiveMillis) {
+        this.delegate = delegate;
+        this.findCache = new ExpiringCache<>(maximumSize, timeToLiveMillis);
+        this.projectionCache = new ExpiringCache<>(maximumSize, timeToLiveMillis);
+    }
+
+    @Nonnull
+    @Override
+    public ResponseEntity<?> findById(I id) {
+        return get(findCache, new LoadKey(false, id), id, () -> delegate.findById(id));
+    }
+
+    @Nonnull
+    @Override
+    public ResponseEntity<?> findProjection(I id) {
+        return get(projectionCache, new LoadKey(true, id), id, () -> delegate.findProjection(id));
+    }
+
+    @Nonnull
+    @Override
+    public ResponseEntity<?> findAllById(@Nonnull Collection<I> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Nonnull
+    @Override
+    public ResponseEntity<?> update(I id, @Nullable D body) {
+        try {
+            return delegate.update(id, body);
+        } finally {
+            evict(id);
+        }
+    }
+
+    /**
+     * Delegates the patch if the decorated service implements {@link PatchService}.
+     *
+     * @param id    The identifier representing the entity to be patched.
+     * @param patch The JSON Merge Patch holding only the members to change.
+     * @return The response of the decorated service, or a not implemented response if it cannot patch.
+     */
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    public ResponseEntity<?> patch(I id, @Nullable JsonNode patch) {
+        if (!(delegate instanceof PatchService<?> patchService)) return ServerResponse.notImplemented("Patch is not supported");
+
+        try {
+            return ((PatchService<I>) patchService).patch(id, patch);
+        } finally {
+            evict(id);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public ResponseEntity<?> updateWhere(@Nonnull Map<String, String> criteria, @Nullable D body) {
+        try {
+            return delegate.updateWhere(criteria, body);
+        } finally {
+            evictAll();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public ResponseEntity<?> deleteAllById(@Nonnull Collection<I> ids) {
+        try {
+            return delegate.deleteAllById(ids);
+        } finally {
+            ids.forEach(this::evict);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public ResponseEntity<?> deleteById(I id) {
+        try {
+            return delegate.deleteById(id);
+        } finally {
+            evict(id);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public ResponseEntity<?> create(@Nullable D body) {
+        return delegate.create(body);
+    }
+
+    @Nonnull
+    @Override
+    public ResponseEntity<?> createAll(@Nullable List<D> bodies) {
+        return delegate.createAll(bodies);
+    }
+
+    @Nonnull
+    @Override
+    public ResponseEntity<?> findAll() {
+        return delegate.findAll();
+    }
+
+    @Nonnull
+    @Override
+    public Page<?> findAll(@Nonnull Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Nonnull
+    @Override
+    public Slice<?> findAllSlice(@Nonnull Pageable pageable) {
+        return delegate.findAllSlice(pageable);
+    }
+
+    @Nonnull
+    @Override
+    public ResponseEntity<?> findAllByCursor(@Nullable String cursor, int size, boolean count) {
+        return delegate.findAllByCursor(cursor, size, count);
+    }
+
+    @Nonnull
+    @Override
+    public ResponseEntity<?> streamAll(@Nonnull StreamFormat format) {
+        return delegate.streamAll(format);
+    }
+
+    /**
+     * Evicts the cached responses of the given entity, now and again after the current transaction commits.
+     *
+     * @param id The identifier of the entity to evict.
+     */
+    public void evict(I id) {
+        invalidate(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * Evicts all cached responses, now and again after the current transaction commits.
+     */
+    public void evictAll() {
+        invalidateAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateAll();
+                }
+            });
+        }
+    }
+
+    /**
+     * Serves a response from a cache, or loads it once for all concurrent callers and caches it if it is
+     * successful and the entity was not evicted while it was loading.
+     *
+     * @param cache  The cache of the responses.
+     * @param key    The key of the load in flight.
+     * @param id     The identifier of the entity.
+     * @param loader The load of the response from the decorated service.
+     * @return The cached or loaded response.
+     */
+    private ResponseEntity<?> get(ExpiringCache<I, CachedResponse> cache, LoadKey key, I id, Supplier<ResponseEntity<?>> loader) {
+        CachedResponse cached = cache.get(id);
+        if (cached != null) return cached.toResponseEntity();
+
+        return singleFlight.execute(key, () -> {
+            long generation = getGeneration(id);
+            ResponseEntity<?> loaded = loader.get();
+            if (!loaded.getStatusCode().is2xxSuccessful()) return loaded;
+
+            CachedResponse response = CachedResponse.of(loaded);
+            if (generation == getGeneration(id)) {
+                cache.put(id, response);
+                // An eviction between the check and the put bumps the generation first, so it is caught here.
+                if (generation != getGeneration(id)) cache.invalidate(id);
+            }
+            return response.toResponseEntity();
+        });
+    }
+
+    /**
+     * Gets the generation of an identifier, which changes whenever it or all entries are evicted.
+     *
+     * @param id The identifier of the entity.
+     * @return The current generation.
+     */
+    private long getGeneration(I id) {
+        return epoch.get() + generations.get(getStripe(id));
+    }
+
+    /**
+     * Bumps the generation of an identifier, then removes its cached responses.
+     *
+     * @param id The identifier of the entity.
+     */
+    private void invalidate(I id) {
+        generations.incrementAndGet(getStripe(id));
+        findCache.invalidate(id);
+        projectionCache.invalidate(id);
+    }
+
+    /**
+     * Bumps the generation of every identifier, then removes all cached responses.
+     */
+    private void invalidateAll() {
+        epoch.incrementAndGet();
+        findCache.invalidateAll();
+        projectionCache.invalidateAll();
+    }
+
+    /**
+     * Gets the stripe of the generation counters an identifier belongs to.
+     *
+     * @param id The identifier of the entity.
+     * @return The index of the stripe.
+     */
+    private static int getStripe(Object id) {
+        int hash = id == null ? 0 : id.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    /**
+     * The key of a load in flight.
+     *
+     * @param projection Whether the load is a projection rather than an entity.
+     * @param id         The identifier of the loaded entity.
+     */
+    private record LoadKey(boolean projection, Object id) {
+    }
+
+    /**
+     * A successful response detached from the objects it was built from.
+     *
+     * @param status  The status of the response.
+     * @param headers The headers of the response, including its JSON content type.
+     * @param body    The serialized JSON body, or null if the response has no body.
+     */
+    private record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+        /**
+         * Detaches a response by serializing its body.
+         *
+         * @param response The response returned by the decorated service.
+         * @return The detached response.
+         */
+        static CachedResponse of(ResponseEntity<?> response) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(response.getHeaders());
+            if (response.getBody() == null) return new CachedResponse(response.getStatusCode(), HttpHeaders.readOnlyHttpHeaders(headers), null);
+
+            if (headers.getContentType() == null) headers.setContentType(MediaType.APPLICATION_JSON);
+            return new CachedResponse(response.getStatusCode(), HttpHeaders.readOnlyHttpHeaders(headers), JsonUtil.toJsonBytes(response.getBody()));
+        }
+
+        /**
+         * Builds a response serving the serialized body as is.
+         *
+         * @return The response.
+         */
+        ResponseEntity<?> toResponseEntity() {
+            return new ResponseEntity<>(body, headers, status);
+        }
+    }
+}
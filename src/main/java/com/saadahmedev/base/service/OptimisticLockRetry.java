@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.service;
+
+import com.saadahmedev.base.exception.exception.ApiException;
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Optimistic Lock Retry Class
+ *
+ * <p>
+ * Runs an update of versioned entities (see {@link com.saadahmedev.base.entity.VersionedEntity}) in its own
+ * transaction, and runs it again when the transaction fails with an optimistic locking conflict. Every
+ * attempt re-reads the entity, so the update is re-applied to the latest committed state. Attempts are
+ * separated by an exponential backoff with full jitter, so that conflicting writers do not retry in lockstep.
+ * </p>
+ *
+ * <p>
+ * The retry must own the transaction, since a conflict is only detected when the transaction flushes or commits,
+ * and a transaction marked for rollback cannot be retried from within. Running it inside an active transaction
+ * therefore fails fast with an {@link IllegalTransactionStateException}, rather than suspending the caller's
+ * transaction and committing the attempt on its own. Call it from a non-transactional method, such as a controller
+ * calling {@link com.saadahmedev.base.service.functional.UpdateService#update(Object, Object, OptimisticLockRetry)}:
+ * </p>
+ *
+ * <pre>{@code
+ * @PutMapping("/{id}")
+ * public ResponseEntity<?> update(@PathVariable Long id, @RequestBody UserRequest body) {
+ *     return userService.update(id, body, retry);
+ * }
+ * }</pre>
+ *
+ * <p>
+ * When all attempts conflict, the last {@link OptimisticLockingFailureException} is thrown, which the
+ * {@link com.saadahmedev.base.exception.handler.GlobalExceptionHandler} turns into a conflict response.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class OptimisticLockRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    /**
+     * Constructs a new OptimisticLockRetry.
+     *
+     * @param transactionManager   The transaction manager; every attempt runs in its own transaction.
+     * @param maxAttempts          The maximum number of attempts, including the first one.
+     * @param initialBackoffMillis The upper bound in milliseconds of the wait before the first retry, doubled on every retry.
+     * @param maxBackoffMillis     The upper bound in milliseconds of the wait before any retry.
+     */
+    public OptimisticLockRetry(@Nonnull PlatformTransactionManager transactionManager, int maxAttempts, long initialBackoffMillis, long maxBackoffMillis) {
+        if (maxAttempts <= 0) throw new IllegalArgumentException("Max attempts must be positive");
+        if (initialBackoffMillis < 0 || maxBackoffMillis < initialBackoffMillis) throw new IllegalArgumentException("Invalid backoff");
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * Runs the update, retrying it on optimistic locking conflicts.
+     *
+     * @param update The update to run; it must load the entities it changes, since it may run several times.
+     * @return The result of the successful attempt.
+     * @param <T> The type of the result.
+     * @throws OptimisticLockingFailureException If every attempt conflicted.
+     * @throws IllegalTransactionStateException  If a transaction is already active, as the retry must own it.
+     */
+    public <T> T execute(@Nonnull Supplier<T> update) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalTransactionStateException("Optimistic lock retries must run outside of a transaction, as each attempt commits its own");
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> update.get());
+            } catch (OptimisticLockingFailureException exception) {
+                if (attempt >= maxAttempts) throw exception;
+            } catch (OptimisticLockException exception) {
+                if (attempt >= maxAttempts) throw new OptimisticLockingFailureException(exception.getMessage(), exception);
+            }
+
+            backoff(attempt);
+        }
+    }
+
+    /**
+     * Waits a random time before the next attempt.
+     *
+     * @param attempt The number of the attempt that failed.
+     */
+    private void backoff(int attempt) {
+        long bound = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 30));
+        if (bound <= 0) return;
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while retrying the update", exception);
+        }
+    }
+}
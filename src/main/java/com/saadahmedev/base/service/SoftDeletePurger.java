@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.service;
+
+import com.saadahmedev.base.repository.SoftDeleteRepository;
+import jakarta.annotation.Nonnull;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Soft Delete Purger Class
+ *
+ * <p>
+ * Physically removes the rows of a {@link SoftDeleteRepository} that were deleted longer ago than a
+ * retention window. Rows are removed in small chunks, each in its own short transaction, so that the
+ * purge never holds locks on many rows at once. Run it periodically, for example:
+ * </p>
+ *
+ * <pre>{@code
+ * @Scheduled(cron = "0 0 3 * * *")
+ * public void purgeUsers() {
+ *     userPurger.run();
+ * }
+ * }</pre>
+ *
+ * @param <I> The type representing the identifier of the entities.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class SoftDeletePurger<I extends Serializable> implements Runnable {
+
+    private final SoftDeleteRepository<?, I> repository;
+    private final TransactionTemplate transactionTemplate;
+    private final long retentionMillis;
+    private final Pageable chunk;
+
+    /**
+     * Constructs a new SoftDeletePurger.
+     *
+     * @param repository          The repository whose deleted entities are purged.
+     * @param transactionTemplate The template running each chunk in its own transaction.
+     * @param retentionMillis     The time in milliseconds a deleted entity is kept before it is purged.
+     * @param chunkSize           The maximum number of entities removed in one transaction.
+     */
+    public SoftDeletePurger(@Nonnull SoftDeleteRepository<?, I> repository, @Nonnull TransactionTemplate transactionTemplate, long retentionMillis, int chunkSize) {
+        if (retentionMillis < 0) throw new IllegalArgumentException("Retention must not be negative");
+        if (chunkSize <= 0) throw new IllegalArgumentException("Chunk size must be positive");
+
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionMillis = retentionMillis;
+        this.chunk = PageRequest.of(0, chunkSize);
+    }
+
+    /**
+     * Purges the entities deleted before the retention window.
+     */
+    @Override
+    public void run() {
+        purge();
+    }
+
+    /**
+     * Purges the entities deleted before the retention window, one chunk per transaction.
+     *
+     * @return The number of purged entities.
+     */
+    public long purge() {
+        long deletedBefore = System.currentTimeMillis() - retentionMillis;
+        long purged = 0;
+
+        while (true) {
+            Integer removed = transactionTemplate.execute(status -> {
+                List<I> ids = repository.findDeletedIdsBefore(deletedBefore, chunk);
+                return ids.isEmpty() ? 0 : repository.deleteAllByIdIn(ids);
+            });
+
+            if (removed == null || removed == 0) return purged;
+            purged += removed;
+            if (removed < chunk.getPageSize()) return purged;
+        }
+    }
+}
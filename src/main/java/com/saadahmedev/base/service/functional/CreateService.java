@@ -16,10 +16,13 @@
 
 package com.saadahmedev.base.service.functional;
 
+import com.saadahmedev.base.response.ServerResponse;
 import org.springframework.http.ResponseEntity;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
+import java.util.List;
+
 /**
  * Functional interface for creating entities within a service.
  *
@@ -39,4 +42,19 @@ public interface CreateService<D> {
      */
     @Nonnull
     ResponseEntity<?> create(@Nullable D body);
+
+    /**
+     * Creates many entities in one transaction. Implementations typically use
+     * {@link com.saadahmedev.base.util.BatchUtil#persistAll} so that the inserts are sent as JDBC batches,
+     * which requires {@code hibernate.jdbc.batch_size} to be set and an entity identifier that is not
+     * generated by an identity column (see {@link com.saadahmedev.base.entity.id.IdGeneration}).
+     *
+     * @param bodies The request bodies representing the data for creating the entities.
+     * @return A ResponseEntity representing the result of the create-all operation, or a not implemented response by default.
+     * @throws com.saadahmedev.base.exception.exception.BadRequestException If any of the provided request bodies is invalid or incomplete.
+     */
+    @Nonnull
+    default ResponseEntity<?> createAll(@Nullable List<D> bodies) {
+        return ServerResponse.notImplemented("Bulk create is not supported");
+    }
 }
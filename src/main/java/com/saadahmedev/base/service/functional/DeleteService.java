@@ -16,13 +16,22 @@
 
 package com.saadahmedev.base.service.functional;
 
+import com.saadahmedev.base.response.ServerResponse;
 import jakarta.annotation.Nonnull;
 import jakarta.transaction.Transactional;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Collection;
+
 /**
  * Functional interface for deleting entities by their identifier within a service.
  *
+ * <p>
+ * When the repository of the entity is a {@link com.saadahmedev.base.repository.SoftDeleteRepository}, its
+ * {@code deleteById} and {@code deleteAllById} mark the entities as deleted instead of removing them, and its
+ * finders skip the deleted entities, so implementations need no change to switch to soft deletes.
+ * </p>
+ *
  * @param <I> The type representing the identifier for deleting an entity.
  *
  * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
@@ -40,4 +49,19 @@ public interface DeleteService<I> {
     @Nonnull
     @Transactional
     ResponseEntity<?> deleteById(I id);
+
+    /**
+     * Deletes the entities with the given identifiers using a single set-based statement, instead of loading
+     * and deleting every entity on its own. Implementations typically call
+     * {@link com.saadahmedev.base.repository.BaseRepository#deleteAllByIdIn(Collection)}.
+     *
+     * @param ids The identifiers representing the entities to be deleted.
+     * @return A ResponseEntity representing the result of the delete-all-by-id operation, or a not implemented response by default.
+     * @throws com.saadahmedev.base.exception.exception.BadRequestException If the provided identifiers are invalid or incomplete.
+     */
+    @Nonnull
+    @Transactional
+    default ResponseEntity<?> deleteAllById(@Nonnull Collection<I> ids) {
+        return ServerResponse.notImplemented("Bulk delete is not supported");
+    }
 }
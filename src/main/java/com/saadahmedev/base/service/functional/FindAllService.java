@@ -16,9 +16,13 @@
 
 package com.saadahmedev.base.service.functional;
 
+import com.saadahmedev.base.response.ServerResponse;
+import com.saadahmedev.base.response.StreamFormat;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 
 /**
@@ -44,5 +48,47 @@ public interface FindAllService {
      */
     @Nonnull
     Page<?> findAll(@Nonnull Pageable pageable);
+
+    /**
+     * Finds all entities with pagination but without counting them. Implementations should override
+     * this method with {@link com.saadahmedev.base.repository.BaseRepository#findAllSlice(Pageable)};
+     * the default falls back to {@link #findAll(Pageable)}, which counts.
+     *
+     * @param pageable The Pageable object specifying the pagination information.
+     * @return A Slice of entities.
+     */
+    @Nonnull
+    default Slice<?> findAllSlice(@Nonnull Pageable pageable) {
+        return findAll(pageable);
+    }
+
+    /**
+     * Finds entities with keyset (seek) pagination. Implementations typically fetch {@code size + 1} rows
+     * with {@link com.saadahmedev.base.repository.BaseRepository#findAfterId} and return a
+     * {@link com.saadahmedev.base.dto.CursorPage}.
+     *
+     * @param cursor The opaque cursor of the page to find, or null for the first page.
+     * @param size   The maximum number of entities in the page.
+     * @param count  Whether the total number of entities should be counted.
+     * @return A ResponseEntity representing the page, or a not implemented response by default.
+     * @throws com.saadahmedev.base.exception.exception.BadRequestException If the provided cursor is invalid.
+     */
+    @Nonnull
+    default ResponseEntity<?> findAllByCursor(@Nullable String cursor, int size, boolean count) {
+        return ServerResponse.notImplemented("Cursor pagination is not supported");
+    }
+
+    /**
+     * Streams all entities to the response incrementally instead of loading them into a list.
+     * Implementations typically return {@link com.saadahmedev.base.response.StreamingResponse#of}
+     * over {@link com.saadahmedev.base.repository.BaseRepository#streamAll()}.
+     *
+     * @param format The output format of the stream.
+     * @return A ResponseEntity streaming the entities, or a not implemented response by default.
+     */
+    @Nonnull
+    default ResponseEntity<?> streamAll(@Nonnull StreamFormat format) {
+        return ServerResponse.notImplemented("Streaming is not supported");
+    }
 }
 
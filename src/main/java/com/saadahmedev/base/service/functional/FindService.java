@@ -16,9 +16,12 @@
 
 package com.saadahmedev.base.service.functional;
 
+import com.saadahmedev.base.response.ServerResponse;
 import jakarta.annotation.Nonnull;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Collection;
+
 /**
  * Interface for finding entities by their identifier within a service.
  *
@@ -40,6 +43,8 @@ public interface FindService<I> {
 
     /**
      * Finds a projected view of an entity by its identifier.
+     * Implementations can select a record generated for a {@link com.saadahmedev.base.projection.ProjectionRecord}
+     * projection with its {@code SELECT_BY_ID} query, which materializes the row without an interface proxy.
      *
      * @param id The identifier representing the entity to be found.
      * @return A ResponseEntity representing the result of the find-projection-by-id operation.
@@ -47,5 +52,19 @@ public interface FindService<I> {
      */
     @Nonnull
     ResponseEntity<?> findProjection(I id);
+
+    /**
+     * Finds the entities with the given identifiers in a single round-trip. Implementations typically use
+     * {@link com.saadahmedev.base.util.BatchUtil#findAllInOrder} to issue chunked {@code WHERE id IN (...)}
+     * queries and return the entities in the order of the requested identifiers.
+     *
+     * @param ids The identifiers representing the entities to be found.
+     * @return A ResponseEntity representing the result of the find-all-by-id operation, or a not implemented response by default.
+     * @throws com.saadahmedev.base.exception.exception.BadRequestException If the provided identifiers are invalid or incomplete.
+     */
+    @Nonnull
+    default ResponseEntity<?> findAllById(@Nonnull Collection<I> ids) {
+        return ServerResponse.notImplemented("Batch lookup is not supported");
+    }
 }
 
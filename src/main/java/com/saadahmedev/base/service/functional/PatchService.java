@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.service.functional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.saadahmedev.base.entity.CompactEntity;
+import com.saadahmedev.base.util.JsonUtil;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.transaction.Transactional;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Set;
+
+/**
+ * Functional interface for partially updating entities within a service.
+ *
+ * <p>
+ * The patch is a JSON Merge Patch (RFC 7396): only the members present in it are changed, and a member
+ * set to null is cleared. Implementations typically load the entity, copy its patchable properties into a
+ * request body, apply the patch to the request body with {@link JsonUtil#merge(JsonNode, Object)},
+ * validate it, copy it back onto the entity and call {@link com.saadahmedev.base.entity.BaseEntity#touch(java.io.Serializable)}.
+ * When the patch is applied to the entity itself, use {@link #merge(JsonNode, Object)}, which keeps the properties
+ * managed by the base entity classes out of reach of the client.
+ * Annotating the entity with {@link org.hibernate.annotations.DynamicUpdate} makes Hibernate write only the changed columns.
+ * </p>
+ *
+ * @param <I> The type representing the identifier for patching an entity.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@FunctionalInterface
+public interface PatchService<I> {
+
+    /**
+     * Applies a JSON Merge Patch to an entity based on the provided identifier.
+     *
+     * @param id    The identifier representing the entity to be patched.
+     * @param patch The JSON Merge Patch holding only the members to change.
+     * @return A ResponseEntity representing the result of the patch operation.
+     * @throws com.saadahmedev.base.exception.exception.BadRequestException If the provided identifier or patch is invalid.
+     */
+    @Nonnull
+    @Transactional
+    ResponseEntity<?> patch(I id, @Nullable JsonNode patch);
+
+    /**
+     * Applies a JSON Merge Patch to an entity in place, rejecting the identifier, audit, version and security flag
+     * properties declared by the base entity classes (see {@link CompactEntity#getProtectedProperties(Class)}).
+     * Every other property with a setter is writable.
+     *
+     * @param patch  The JSON Merge Patch to apply.
+     * @param entity The entity to update.
+     * @return The updated entity.
+     * @param <E> The type of the entity.
+     * @throws com.saadahmedev.base.exception.exception.BadRequestException If the patch is invalid or changes a protected property.
+     */
+    @Nonnull
+    static <E> E merge(@Nullable JsonNode patch, @Nonnull E entity) {
+        Set<String> protectedProperties = CompactEntity.getProtectedProperties(entity.getClass());
+        return JsonUtil.merge(patch, entity, name -> !protectedProperties.contains(name));
+    }
+}
@@ -16,11 +16,15 @@
 
 package com.saadahmedev.base.service.functional;
 
+import com.saadahmedev.base.response.ServerResponse;
+import com.saadahmedev.base.service.OptimisticLockRetry;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.transaction.Transactional;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Map;
+
 /**
  * Functional interface for updating entities within a service.
  *
@@ -43,5 +47,39 @@ public interface UpdateService<I, D> {
     @Nonnull
     @Transactional
     ResponseEntity<?> update(I id, @Nullable D body);
+
+    /**
+     * Updates an entity like {@link #update(Object, Object)}, running every attempt in its own transaction and
+     * retrying it on optimistic locking conflicts, so that a concurrent update of a versioned entity is re-applied
+     * to its latest state instead of failing. It must be called outside of a transaction.
+     *
+     * @param id    The identifier representing the data for updating an entity.
+     * @param body  The request body representing the updated data for an entity.
+     * @param retry The retry policy running the attempts.
+     * @return A ResponseEntity representing the result of the successful attempt.
+     * @throws org.springframework.dao.OptimisticLockingFailureException If every attempt conflicted.
+     * @throws org.springframework.transaction.IllegalTransactionStateException If a transaction is already active.
+     */
+    @Nonnull
+    default ResponseEntity<?> update(I id, @Nullable D body, @Nonnull OptimisticLockRetry retry) {
+        return retry.execute(() -> update(id, body));
+    }
+
+    /**
+     * Updates every entity matching the given criteria using a single set-based statement, instead of loading
+     * and saving every entity on its own. Implementations typically call
+     * {@link com.saadahmedev.base.util.BatchUtil#updateWhere} with the values taken from the request body and the
+     * identifier of the current user.
+     *
+     * @param criteria The attribute values the entities to update must be equal to.
+     * @param body     The request body representing the updated data for the entities.
+     * @return A ResponseEntity representing the result of the update-where operation, or a not implemented response by default.
+     * @throws com.saadahmedev.base.exception.exception.BadRequestException If the provided criteria or request body is invalid or incomplete.
+     */
+    @Nonnull
+    @Transactional
+    default ResponseEntity<?> updateWhere(@Nonnull Map<String, String> criteria, @Nullable D body) {
+        return ServerResponse.notImplemented("Bulk update is not supported");
+    }
 }
 
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.util;
+
+import com.saadahmedev.base.entity.BaseEntity;
+import com.saadahmedev.base.entity.CompactEntity;
+import com.saadahmedev.base.entity.LongIdEntity;
+import com.saadahmedev.base.exception.exception.BadRequestException;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Batch Utility Class
+ *
+ * <p>
+ * This utility class provides methods to work with many entities in as few database round-trips as possible.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class BatchUtil {
+
+    /**
+     * The default number of identifiers bound to a single {@code IN} clause.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * Finds the entities with the given identifiers using one {@code WHERE id IN (...)} query per chunk,
+     * and returns them in the order of the requested identifiers. Identifiers that match no entity are skipped.
+     * For example: {@code BatchUtil.findAllInOrder(ids, repository::findAllById, User::getId)}.
+     *
+     * @param ids        The identifiers of the entities to find.
+     * @param loader     The function finding the entities of a chunk of identifiers, such as {@code repository::findAllById}.
+     * @param idFunction The function returning the identifier of an entity.
+     * @return The found entities in the order of the requested identifiers.
+     * @param <I> The type representing the identifier of the entities.
+     * @param <E> The type representing the entities.
+     */
+    @Nonnull
+    public static <I, E> List<E> findAllInOrder(@Nonnull Collection<I> ids, @Nonnull Function<List<I>, ? extends Iterable<E>> loader, @Nonnull Function<? super E, I> idFunction) {
+        return findAllInOrder(ids, loader, idFunction, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Finds the entities with the given identifiers using one {@code WHERE id IN (...)} query per chunk,
+     * and returns them in the order of the requested identifiers. Identifiers that match no entity are skipped.
+     *
+     * @param ids        The identifiers of the entities to find.
+     * @param loader     The function finding the entities of a chunk of identifiers, such as {@code repository::findAllById}.
+     * @param idFunction The function returning the identifier of an entity.
+     * @param chunkSize  The maximum number of identifiers bound to a single query.
+     * @return The found entities in the order of the requested identifiers.
+     * @param <I> The type representing the identifier of the entities.
+     * @param <E> The type representing the entities.
+     */
+    @Nonnull
+    public static <I, E> List<E> findAllInOrder(@Nonnull Collection<I> ids, @Nonnull Function<List<I>, ? extends Iterable<E>> loader, @Nonnull Function<? super E, I> idFunction, int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("Chunk size must be positive");
+
+        Map<I, E> found = new HashMap<>();
+        for (List<I> chunk : chunk(new ArrayList<>(new LinkedHashSet<>(ids)), chunkSize)) {
+            for (E entity : loader.apply(chunk)) {
+                found.put(idFunction.apply(entity), entity);
+            }
+        }
+
+        List<E> result = new ArrayList<>(ids.size());
+        for (I id : ids) {
+            E entity = found.get(id);
+            if (entity != null) result.add(entity);
+        }
+
+        return result;
+    }
+
+    /**
+     * Persists the given entities, flushing and clearing the persistence context after every batch so that
+     * Hibernate sends the inserts as JDBC batches and the memory used stays bounded. Must be called inside a
+     * transaction, with {@code hibernate.jdbc.batch_size} set to the same batch size. Entities whose identifier
+     * is generated by an identity column are still inserted one by one.
+     *
+     * @param entityManager The entity manager of the current transaction.
+     * @param entities      The new entities to persist.
+     * @param batchSize     The number of entities persisted between two flushes.
+     * @return The persisted entities, detached from the persistence context.
+     * @param <E> The type representing the entities.
+     */
+    @Nonnull
+    public static <E> List<E> persistAll(@Nonnull EntityManager entityManager, @Nonnull List<E> entities, int batchSize) {
+        for (List<E> batch : chunk(entities, batchSize)) {
+            batch.forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        return entities;
+    }
+
+    /**
+     * Updates every entity matching the given criteria using a single {@code UPDATE ... SET ... WHERE ...}
+     * statement, without loading the entities. Criteria and values are keyed by attribute name and converted
+     * to the type of their attribute, so query parameters can be passed as they are. A null criterion matches
+     * a null attribute. The values cannot change the identifier, audit, version and security flag attributes
+     * declared by the base entities (see {@link CompactEntity#getProtectedProperties(Class)}): for a
+     * {@link CompactEntity} or a {@link LongIdEntity} the update time, date if stored, and user are set instead.
+     * For a versioned entity the version is incremented, so concurrent optimistic-locked writes of the updated entities
+     * fail instead of overwriting the update.
+     * Must be called inside a transaction; entity callbacks and the persistence context are bypassed.
+     * For example: {@code BatchUtil.updateWhere(entityManager, User.class, criteria, Map.of("name", name), userId)}.
+     *
+     * @param entityManager The entity manager of the current transaction.
+     * @param entityClass   The class of the entities to update.
+     * @param criteria      The attribute values the entities to update must be equal to.
+     * @param values        The new attribute values.
+     * @param updatedById   The identifier of the user updating the entities, or null to keep the last updater.
+     * @return The number of updated entities.
+     * @param <E> The type representing the entities.
+     * @throws BadRequestException If the criteria or values are empty, name an unknown or protected attribute, or cannot be converted.
+     */
+    public static <E> int updateWhere(@Nonnull EntityManager entityManager, @Nonnull Class<E> entityClass, @Nonnull Map<String, ?> criteria, @Nonnull Map<String, ?> values, @Nullable Object updatedById) {
+        if (criteria.isEmpty()) throw new BadRequestException("At least one criterion is required");
+        if (values.isEmpty()) throw new BadRequestException("At least one value is required");
+
+        EntityType<E> entityType = entityManager.getMetamodel().entity(entityClass);
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<E> update = builder.createCriteriaUpdate(entityClass);
+        Root<E> root = update.from(entityClass);
+
+        Set<String> protectedProperties = CompactEntity.getProtectedProperties(entityClass);
+        values.forEach((name, value) -> {
+            if (protectedProperties.contains(name)) throw new BadRequestException("Attribute " + name + " cannot be updated");
+            Object converted = convert(entityType, name, value);
+            update.set(root.get(name), converted);
+        });
+        for (SingularAttribute<? super E, ?> attribute : entityType.getSingularAttributes()) {
+            if (!attribute.isVersion()) continue;
+            if (values.containsKey(attribute.getName())) throw new BadRequestException("Attribute " + attribute.getName() + " cannot be updated");
+
+            Path<Number> version = root.get(attribute.getName());
+            boolean isInteger = attribute.getJavaType() == Integer.class || attribute.getJavaType() == int.class;
+            update.set(version, builder.sum(version, isInteger ? (Number) 1 : (Number) 1L));
+        }
+        if (CompactEntity.class.isAssignableFrom(entityClass) || LongIdEntity.class.isAssignableFrom(entityClass)) {
+            long now = System.currentTimeMillis();
+            update.set(root.<Long>get("updatedTime"), now);
+            if (BaseEntity.class.isAssignableFrom(entityClass)) update.set(root.<String>get("updatedDate"), DateUtil.format(now));
+            if (updatedById != null) update.set(root.get("updatedById"), convert(entityType, "updatedById", updatedById));
+        }
+
+        List<Predicate> predicates = new ArrayList<>(criteria.size());
+        criteria.forEach((name, value) -> {
+            Object converted = convert(entityType, name, value);
+            predicates.add(converted == null ? builder.isNull(root.get(name)) : builder.equal(root.get(name), converted));
+        });
+        update.where(predicates.toArray(Predicate[]::new));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    /**
+     * Splits a list into consecutive chunks of at most the given size.
+     *
+     * @param list      The list to split.
+     * @param chunkSize The maximum size of a chunk.
+     * @return The chunks, as views of the list.
+     * @param <T> The type of the list elements.
+     */
+    @Nonnull
+    public static <T> List<List<T>> chunk(@Nonnull List<T> list, int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("Chunk size must be positive");
+
+        List<List<T>> chunks = new ArrayList<>((list.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < list.size(); from += chunkSize) {
+            chunks.add(list.subList(from, Math.min(list.size(), from + chunkSize)));
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Converts a value to the type of the given attribute.
+     *
+     * @param entityType The metamodel of the entity.
+     * @param name       The name of the attribute.
+     * @param value      The value to convert.
+     * @return The converted value.
+     * @throws BadRequestException If the attribute is unknown or the value cannot be converted.
+     */
+    private static Object convert(@Nonnull EntityType<?> entityType, @Nonnull String name, Object value) {
+        Attribute<?, ?> attribute;
+        try {
+            attribute = entityType.getAttribute(name);
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException("Unknown attribute: " + name);
+        }
+
+        try {
+            return JsonUtil.getObjectMapper().convertValue(value, attribute.getJavaType());
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException("Invalid value of " + name, exception);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.util;
+
+import com.saadahmedev.base.exception.exception.BadRequestException;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor Utility Class
+ *
+ * <p>
+ * This utility class encodes and decodes the opaque cursors of keyset (seek) pagination.
+ * A cursor holds the identifier of the last item of a page and, when paginating by creation
+ * time, its created time as well.
+ * </p>
+ *
+ * @see com.saadahmedev.base.dto.CursorPage
+ * @see com.saadahmedev.base.repository.BaseRepository
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class CursorUtil {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * Encodes a cursor pointing after the item with the given identifier.
+     *
+     * @param id The identifier of the last item of the page.
+     * @return The opaque cursor.
+     */
+    @Nonnull
+    public static String encode(@Nonnull Object id) {
+        return encode(SEPARATOR + String.valueOf(id));
+    }
+
+    /**
+     * Encodes a cursor pointing after the item with the given created time and identifier.
+     *
+     * @param createdTime The created time of the last item of the page.
+     * @param id          The identifier of the last item of the page.
+     * @return The opaque cursor.
+     */
+    @Nonnull
+    public static String encode(long createdTime, @Nonnull Object id) {
+        return encode(String.valueOf(createdTime) + SEPARATOR + id);
+    }
+
+    /**
+     * Decodes a cursor created by {@link #encode(Object)} or {@link #encode(long, Object)}.
+     *
+     * @param cursor The opaque cursor sent by the client.
+     * @return The decoded {@link Cursor}, or null if the cursor is null or empty (the first page).
+     * @throws BadRequestException If the cursor is malformed.
+     */
+    @Nullable
+    public static Cursor decode(@Nullable String cursor) {
+        if (cursor == null || cursor.isEmpty()) return null;
+
+        String value;
+        try {
+            value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        if (value.isEmpty()) throw new BadRequestException("Invalid cursor");
+        if (value.charAt(0) == SEPARATOR) return new Cursor(null, value.substring(1));
+
+        int separatorIndex = value.indexOf(SEPARATOR, 1);
+        if (separatorIndex < 0) throw new BadRequestException("Invalid cursor");
+
+        try {
+            return new Cursor(Long.parseLong(value.substring(0, separatorIndex)), value.substring(separatorIndex + 1));
+        } catch (NumberFormatException exception) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Encodes the raw cursor value as URL-safe Base64.
+     *
+     * @param value The raw cursor value.
+     * @return The opaque cursor.
+     */
+    @Nonnull
+    private static String encode(@Nonnull String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The decoded position of a cursor.
+     *
+     * @param createdTime The created time of the last item, or null if the cursor seeks on the identifier only.
+     * @param id          The identifier of the last item, to be parsed into the identifier type, for example with {@link Long#valueOf(String)}.
+     */
+    public record Cursor(@Nullable Long createdTime, @Nonnull String id) {
+    }
+}
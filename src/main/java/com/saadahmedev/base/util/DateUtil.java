@@ -19,6 +19,7 @@ package com.saadahmedev.base.util;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
+import java.time.Instant;
 import java.util.Date;
 
 /**
@@ -26,12 +27,20 @@ import java.util.Date;
  *
  * <p>
  * This utility class provides methods to work with date and time operations.
+ * Instants are formatted in ISO-8601 without intermediate {@link Date} or {@link Instant} objects,
+ * and the string of the current instant is formatted at most once per millisecond.
  * </p>
  *
  * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
  */
 public class DateUtil {
 
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final long MIN_FAST_MILLIS = -62_167_219_200_000L;
+    private static final long MAX_FAST_MILLIS = 253_402_300_799_999L;
+
+    private static volatile CachedInstant cachedInstant = new CachedInstant(Long.MIN_VALUE, "");
+
     /**
      * Gets the current instant as a string.
      *
@@ -39,7 +48,13 @@ public class DateUtil {
      */
     @Nonnull
     public static String getInstant() {
-        return new Date().toInstant().toString();
+        long now = System.currentTimeMillis();
+        CachedInstant cached = cachedInstant;
+        if (cached.time == now) return cached.value;
+
+        String value = format(now);
+        cachedInstant = new CachedInstant(now, value);
+        return value;
     }
 
     /**
@@ -50,7 +65,7 @@ public class DateUtil {
      */
     @Nullable
     public static String getInstant(@Nullable Date date) {
-        return date != null ? date.toInstant().toString() : null;
+        return date != null ? format(date.getTime()) : null;
     }
 
     /**
@@ -61,7 +76,79 @@ public class DateUtil {
      */
     @Nullable
     public static String getInstant(@Nullable Long time) {
-        return time != null ? new Date(time).toInstant().toString() : null;
+        return time != null ? format(time) : null;
     }
-}
 
+    /**
+     * Formats the specified time as an ISO-8601 instant, producing the same string as
+     * {@link Instant#toString()} for millisecond precision, for example {@code 2024-01-11T05:51:16.123Z}.
+     *
+     * @param time The time in milliseconds since the epoch.
+     * @return A string representation of the instant of the specified time.
+     */
+    @Nonnull
+    public static String format(long time) {
+        if (time < MIN_FAST_MILLIS || time > MAX_FAST_MILLIS) return Instant.ofEpochMilli(time).toString();
+
+        long days = Math.floorDiv(time, MILLIS_PER_DAY);
+        int millisOfDay = (int) Math.floorMod(time, MILLIS_PER_DAY);
+
+        long era = Math.floorDiv(days + 719_468, 146_097);
+        long dayOfEra = days + 719_468 - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+
+        int millis = millisOfDay % 1000;
+        int seconds = millisOfDay / 1000;
+
+        char[] chars = new char[millis == 0 ? 20 : 24];
+        writeDigits(chars, 0, year, 4);
+        chars[4] = '-';
+        writeDigits(chars, 5, month, 2);
+        chars[7] = '-';
+        writeDigits(chars, 8, day, 2);
+        chars[10] = 'T';
+        writeDigits(chars, 11, seconds / 3600, 2);
+        chars[13] = ':';
+        writeDigits(chars, 14, seconds / 60 % 60, 2);
+        chars[16] = ':';
+        writeDigits(chars, 17, seconds % 60, 2);
+
+        if (millis != 0) {
+            chars[19] = '.';
+            writeDigits(chars, 20, millis, 3);
+        }
+
+        chars[chars.length - 1] = 'Z';
+        return new String(chars);
+    }
+
+    /**
+     * Writes the specified value as zero-padded decimal digits.
+     *
+     * @param chars  The buffer to write to.
+     * @param offset The position of the first digit.
+     * @param value  The non-negative value to write.
+     * @param width  The number of digits to write.
+     */
+    private static void writeDigits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * The formatted string of the most recently requested current instant.
+     *
+     * @param time  The time in milliseconds since the epoch.
+     * @param value The formatted string of the time.
+     */
+    private record CachedInstant(long time, String value) {
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.saadahmedev.base.exception.exception.ApiException;
+import com.saadahmedev.base.exception.exception.BadRequestException;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+/**
+ * JSON Utility Class
+ *
+ * <p>
+ * This utility class holds a single shared {@link ObjectMapper} and one {@link ObjectWriter} per type,
+ * so that serializers are introspected and built once instead of on every serialization.
+ * </p>
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class JsonUtil {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final ClassValue<ObjectWriter> WRITERS = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(@Nonnull Class<?> type) {
+            return OBJECT_MAPPER.writerFor(type);
+        }
+    };
+
+    /**
+     * Gets the shared ObjectMapper. It must not be reconfigured after startup.
+     *
+     * @return The shared {@link ObjectMapper}.
+     */
+    @Nonnull
+    public static ObjectMapper getObjectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Gets the cached writer for the specified type, creating it on first use.
+     *
+     * @param type The type of the values to write.
+     * @return The cached {@link ObjectWriter} for the type.
+     */
+    @Nonnull
+    public static ObjectWriter getWriter(@Nonnull Class<?> type) {
+        return WRITERS.get(type);
+    }
+
+    /**
+     * Serializes the specified value to a JSON string using the cached writer of its type.
+     *
+     * @param value The value to serialize.
+     * @return The JSON string of the value.
+     * @throws ApiException If the value cannot be serialized.
+     */
+    @Nonnull
+    public static String toJson(@Nonnull Object value) {
+        try {
+            return getWriter(value.getClass()).writeValueAsString(value);
+        } catch (JsonProcessingException exception) {
+            throw new ApiException(exception);
+        }
+    }
+
+    /**
+     * Serializes the specified value to JSON bytes using the cached writer of its type.
+     *
+     * @param value The value to serialize.
+     * @return The UTF-8 encoded JSON of the value.
+     * @throws ApiException If the value cannot be serialized.
+     */
+    @Nonnull
+    public static byte[] toJsonBytes(@Nonnull Object value) {
+        try {
+            return getWriter(value.getClass()).writeValueAsBytes(value);
+        } catch (JsonProcessingException exception) {
+            throw new ApiException(exception);
+        }
+    }
+
+    /**
+     * Applies a JSON Merge Patch (RFC 7396) to the specified object in place. Only the members present in
+     * the patch are written and a null member clears the property. Nested objects and arrays are replaced
+     * as a whole, unless the property is annotated with {@link com.fasterxml.jackson.annotation.JsonMerge}
+     * to merge it recursively. Properties not declared by the object are rejected.
+     *
+     * <p>
+     * Every property with a setter is writable, so the target should be a request body holding only the
+     * properties clients may change, which is then validated and copied onto the entity. Use
+     * {@link #merge(JsonNode, Object, Predicate)} to restrict the properties the patch may change.
+     * </p>
+     *
+     * @param patch  The JSON Merge Patch to apply.
+     * @param target The object to update, preferably a request body.
+     * @return The updated target.
+     * @param <T> The type of the target.
+     * @throws BadRequestException If the patch is not a JSON object or does not match the target.
+     */
+    @Nonnull
+    public static <T> T merge(@Nullable JsonNode patch, @Nonnull T target) {
+        if (patch == null || !patch.isObject()) throw new BadRequestException("Patch must be a JSON object");
+
+        try {
+            return OBJECT_MAPPER.readerForUpdating(target).readValue(patch);
+        } catch (JsonProcessingException exception) {
+            throw new BadRequestException("Invalid patch: " + exception.getOriginalMessage(), exception);
+        } catch (IOException exception) {
+            throw new ApiException(exception);
+        }
+    }
+
+    /**
+     * Applies a JSON Merge Patch (RFC 7396) to the specified object in place, like {@link #merge(JsonNode, Object)},
+     * accepting only the members whose names are in the given allow-list.
+     *
+     * @param patch     The JSON Merge Patch to apply.
+     * @param target    The object to update.
+     * @param patchable The names of the properties the patch may change.
+     * @return The updated target.
+     * @param <T> The type of the target.
+     * @throws BadRequestException If the patch is not a JSON object, does not match the target, or changes a property not in the allow-list.
+     */
+    @Nonnull
+    public static <T> T merge(@Nullable JsonNode patch, @Nonnull T target, @Nonnull Collection<String> patchable) {
+        return merge(patch, target, (Predicate<String>) patchable::contains);
+    }
+
+    /**
+     * Applies a JSON Merge Patch (RFC 7396) to the specified object in place, like {@link #merge(JsonNode, Object)},
+     * accepting only the members whose names match the given predicate.
+     *
+     * @param patch     The JSON Merge Patch to apply.
+     * @param target    The object to update.
+     * @param patchable The predicate telling whether the patch may change a property, given its name.
+     * @return The updated target.
+     * @param <T> The type of the target.
+     * @throws BadRequestException If the patch is not a JSON object, does not match the target, or changes a property rejected by the predicate.
+     */
+    @Nonnull
+    public static <T> T merge(@Nullable JsonNode patch, @Nonnull T target, @Nonnull Predicate<String> patchable) {
+        if (patch == null || !patch.isObject()) throw new BadRequestException("Patch must be a JSON object");
+
+        for (Iterator<String> names = patch.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!patchable.test(name)) throw new BadRequestException("Property " + name + " cannot be patched");
+        }
+
+        return merge(patch, target);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.entity.id;
+
+import com.saadahmedev.base.entity.BaseEntity;
+import jakarta.persistence.Entity;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Persists entities of every {@link IdStrategy} into an in-memory H2 database, so that a Hibernate upgrade
+ * changing how {@link EntityIdGenerator} is called fails the build.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+class EntityIdGeneratorTest {
+
+    private static final UUID USER_ID = new UUID(0, 1);
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void setUp() {
+        sessionFactory = configuration("entity-id")
+                .addAnnotatedClass(IdentityRecord.class)
+                .addAnnotatedClass(TimeOrderedRecord.class)
+                .addAnnotatedClass(UuidRecord.class)
+                .buildSessionFactory();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void onlyIdentityEntitiesGetAnIdentityColumn() {
+        assertEquals("YES", isIdentity("IDENTITYRECORD"));
+        assertEquals("NO", isIdentity("TIMEORDEREDRECORD"));
+        assertEquals("NO", isIdentity("UUIDRECORD"));
+        assertEquals("UUID", sessionFactory.fromTransaction(session -> session.createNativeQuery(
+                "select data_type from information_schema.columns where table_name = 'UUIDRECORD' and column_name = 'ID'", String.class
+        ).getSingleResult()));
+    }
+
+    @Test
+    void identityIdsAreGeneratedByTheDatabase() {
+        assertTrue(sessionFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                .getEntityDescriptor(IdentityRecord.class).getGenerator().generatedOnExecution());
+
+        List<Long> ids = persist(IdentityRecord::new);
+        assertEquals(ids.get(0) + 1, ids.get(1));
+        assertEquals(ids.get(1) + 1, ids.get(2));
+    }
+
+    @Test
+    void timeOrderedIdsAreAssignedBeforeTheInsert() {
+        assertFalse(sessionFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                .getEntityDescriptor(TimeOrderedRecord.class).getGenerator().generatedOnExecution());
+
+        long before = System.currentTimeMillis();
+        List<Long> ids = persist(TimeOrderedRecord::new);
+
+        assertTrue(ids.get(0) < ids.get(1) && ids.get(1) < ids.get(2));
+        assertTrue(TimeOrderedIdGenerator.getTime(ids.get(0)) >= before);
+        long count = sessionFactory.fromTransaction(session -> session.createSelectionQuery("select count(*) from TimeOrderedRecord", Long.class).getSingleResult());
+        assertEquals(3, count);
+    }
+
+    @Test
+    void uuidV7IdsAreAssignedBeforeTheInsert() {
+        List<UUID> ids = persist(UuidRecord::new);
+
+        ids.forEach(id -> assertEquals(7, id.version()));
+        assertTrue(ids.get(0).compareTo(ids.get(1)) < 0 && ids.get(1).compareTo(ids.get(2)) < 0);
+        assertNotNull(sessionFactory.fromTransaction(session -> session.find(UuidRecord.class, ids.get(2))));
+    }
+
+    @Test
+    void mismatchingIdTypeFailsTheStartup() {
+        Exception exception = assertThrows(Exception.class, () -> configuration("entity-id-mismatch")
+                .addAnnotatedClass(MismatchingRecord.class)
+                .buildSessionFactory()
+                .close());
+
+        Throwable cause = exception;
+        while (cause.getCause() != null) cause = cause.getCause();
+        assertTrue(cause.getMessage().contains("must have a Long identifier"), cause.getMessage());
+    }
+
+    private static String isIdentity(String table) {
+        return sessionFactory.fromTransaction(session -> session.createNativeQuery(
+                "select is_identity from information_schema.columns where table_name = :table and column_name = 'ID'", String.class
+        ).setParameter("table", table).getSingleResult());
+    }
+
+    @SuppressWarnings("deprecation") // the jakarta.persistence URL is not honored by a bare Configuration
+    private static Configuration configuration(String database) {
+        return new Configuration()
+                .setProperty(AvailableSettings.URL, "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+    }
+
+    private static <E extends BaseEntity<I>, I extends Serializable> List<I> persist(Supplier<E> factory) {
+        return sessionFactory.fromTransaction(session -> {
+            List<E> entities = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                E entity = factory.get();
+                session.persist(entity);
+                entities.add(entity);
+            }
+            session.flush();
+
+            return entities.stream().map(BaseEntity::getId).toList();
+        });
+    }
+
+    @Entity(name = "IdentityRecord")
+    static class IdentityRecord extends BaseEntity<Long> {
+        IdentityRecord() {
+            this(System.currentTimeMillis());
+        }
+
+        IdentityRecord(long time) {
+            super(time, time, 1L, null);
+        }
+    }
+
+    @Entity(name = "TimeOrderedRecord")
+    @IdGeneration(IdStrategy.TIME_ORDERED)
+    static class TimeOrderedRecord extends BaseEntity<Long> {
+        TimeOrderedRecord() {
+            this(System.currentTimeMillis());
+        }
+
+        TimeOrderedRecord(long time) {
+            super(time, time, 1L, null);
+        }
+    }
+
+    @Entity(name = "UuidRecord")
+    @IdGeneration(IdStrategy.UUID_V7)
+    static class UuidRecord extends BaseEntity<UUID> {
+        UuidRecord() {
+            this(System.currentTimeMillis());
+        }
+
+        UuidRecord(long time) {
+            super(time, time, USER_ID, null);
+        }
+    }
+
+    @Entity(name = "MismatchingRecord")
+    @IdGeneration(IdStrategy.TIME_ORDERED)
+    static class MismatchingRecord extends BaseEntity<UUID> {
+        MismatchingRecord() {
+            this(System.currentTimeMillis());
+        }
+
+        MismatchingRecord(long time) {
+            super(time, time, USER_ID, null);
+        }
+    }
+}
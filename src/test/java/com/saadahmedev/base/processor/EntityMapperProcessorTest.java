@@ -0,0 +1,168 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.processor;
+
+import com.saadahmedev.base.entity.BaseEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compiles mapper interfaces and request classes with {@link EntityMapperProcessor}, checking the generated mapping
+ * code as well as the diagnostics reported for invalid or incomplete mappers.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+class EntityMapperProcessorTest {
+
+    private static final String USER = """
+            package app;
+
+            @jakarta.persistence.Entity
+            @jakarta.persistence.EntityListeners(com.saadahmedev.base.entity.AuditListener.class)
+            public class User extends com.saadahmedev.base.entity.BaseEntity<Long> {
+                private String name;
+                private int age;
+
+                public String getName() { return name; }
+                public void setName(String name) { this.name = name; }
+                public int getAge() { return age; }
+                public void setAge(int age) { this.age = age; }
+            }
+            """;
+
+    private static final String USER_REQUEST = """
+            package app;
+
+            public class UserRequest {
+                public String getName() { return "Saad"; }
+                public Integer getAge() { return null; }
+                public Long getCreatedById() { return 9L; }
+            }
+            """;
+
+    @TempDir
+    Path output;
+
+    @Test
+    void generatesMapperImplementation() throws Exception {
+        ProcessorCompiler.Compilation compilation = compile("app.UserMapper", """
+                package app;
+
+                @com.saadahmedev.base.mapper.GenerateMapper
+                public interface UserMapper extends com.saadahmedev.base.mapper.twice.EntityMapper<User, UserRequest, Long> {
+                    User toEntity(UserRequest request, Long createdById);
+                }
+                """, USER);
+
+        assertTrue(compilation.success(), compilation.diagnostics()::toString);
+        assertEquals(List.of(), compilation.messages(Diagnostic.Kind.WARNING));
+        assertTrue(compilation.source("app.UserMapperImpl").contains("""
+                    public app.User toEntity(app.UserRequest request, java.lang.Long createdById) {
+                        app.User entity = new app.User();
+                        entity.setCreatedById(createdById);
+                        if (request != null) {
+                            entity.setName(request.getName());
+                            if (request.getAge() != null) entity.setAge(request.getAge());
+                        }
+                        return entity;
+                    }
+                """));
+
+        Class<?> mapper = compilation.load("app.UserMapperImpl");
+        Object instance = mapper.getField("INSTANCE").get(null);
+        Class<?> request = mapper.getClassLoader().loadClass("app.UserRequest");
+        BaseEntity<?> user = (BaseEntity<?>) mapper.getMethod("toEntity", request, Long.class)
+                .invoke(instance, request.getConstructor().newInstance(), 3L);
+
+        assertEquals(3L, user.getCreatedById());
+        assertEquals("Saad", user.getClass().getMethod("getName").invoke(user));
+        assertEquals(0, user.getClass().getMethod("getAge").invoke(user));
+    }
+
+    @Test
+    void warnsAboutUnassignedAuditProperties() {
+        ProcessorCompiler.Compilation compilation = compile("app.UserMapper", """
+                package app;
+
+                @com.saadahmedev.base.mapper.GenerateMapper
+                public interface UserMapper extends com.saadahmedev.base.mapper.twice.EntityMapper<User, UserRequest, Long> {
+                    User toEntity(UserRequest request, Long createdTime);
+                }
+                """, USER.replaceFirst("@jakarta.persistence.EntityListeners\\(.*\\)\n", ""));
+
+        assertTrue(compilation.success(), compilation.diagnostics()::toString);
+        assertEquals(List.of("Properties createdById, createdDate, updatedDate, updatedTime of User are required but not assigned, "
+                + "register AuditListener on the entity, name parameters after them or set them before persisting"), compilation.messages(Diagnostic.Kind.WARNING));
+    }
+
+    @Test
+    void rejectsInterfacesNotExtendingAnEntityMapper() {
+        ProcessorCompiler.Compilation compilation = compile("app.UserMapper", """
+                package app;
+
+                @com.saadahmedev.base.mapper.GenerateMapper
+                public interface UserMapper {
+                    User toEntity(UserRequest request);
+                }
+                """, USER);
+
+        assertFalse(compilation.success());
+        assertEquals(List.of("A @GenerateMapper interface must extend a single, twice or triple EntityMapper"), compilation.messages(Diagnostic.Kind.ERROR));
+    }
+
+    @Test
+    void rejectsTargetsWhichAreNeitherInterfacesNorClasses() {
+        ProcessorCompiler.Compilation compilation = compile("app.UserMapper", """
+                package app;
+
+                @com.saadahmedev.base.mapper.GenerateMapper
+                public enum UserMapper {
+                    INSTANCE
+                }
+                """, USER);
+
+        assertFalse(compilation.success());
+        assertEquals(List.of("@GenerateMapper can only be placed on an interface or a class"), compilation.messages(Diagnostic.Kind.ERROR));
+    }
+
+    @Test
+    void rejectsParametersWhichAreNeitherPropertiesNorSources() {
+        ProcessorCompiler.Compilation compilation = compile("app.UserMapper", """
+                package app;
+
+                @com.saadahmedev.base.mapper.GenerateMapper
+                public interface UserMapper extends com.saadahmedev.base.mapper.single.EntityMapper<User, int[]> {
+                    User toEntity(int[] heights);
+                }
+                """, USER);
+
+        assertFalse(compilation.success());
+        assertTrue(compilation.messages(Diagnostic.Kind.ERROR).contains("Parameter heights is neither a property of User nor an object to copy properties from"),
+                compilation.diagnostics()::toString);
+    }
+
+    private ProcessorCompiler.Compilation compile(String name, String source, String user) {
+        return ProcessorCompiler.compile(new EntityMapperProcessor(), output, Map.of("app.User", user, "app.UserRequest", USER_REQUEST, name, source));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.processor;
+
+import javax.annotation.processing.Processor;
+import javax.tools.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compiles in-memory sources with an annotation processor of this library, keeping the diagnostics, the generated
+ * sources and the compiled classes, so that the processors are tested through the compiler that runs them.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+final class ProcessorCompiler {
+
+    private ProcessorCompiler() {
+    }
+
+    /**
+     * Compiles sources on the test classpath with a single processor.
+     *
+     * @param processor The processor to run.
+     * @param output    The directory the generated sources and classes are written to.
+     * @param sources   The source code by qualified class name.
+     * @return The result of the compilation.
+     */
+    static Compilation compile(Processor processor, Path output, Map<String, String> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Path classes = output.resolve("classes");
+        Path generated = output.resolve("generated");
+
+        List<JavaFileObject> units = new ArrayList<>();
+        sources.forEach((name, code) -> units.add(new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        }));
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            Files.createDirectories(classes);
+            Files.createDirectories(generated);
+
+            List<String> options = List.of("-classpath", System.getProperty("java.class.path"), "-d", classes.toString(), "-s", generated.toString(), "-implicit:none");
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, units);
+            task.setProcessors(List.of(processor));
+
+            return new Compilation(task.call(), diagnostics.getDiagnostics(), classes, generated);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * The result of a compilation.
+     *
+     * @param success     Whether the sources compiled without errors.
+     * @param diagnostics The diagnostics reported by the compiler and the processor.
+     * @param classes     The directory of the compiled classes.
+     * @param generated   The directory of the generated sources.
+     */
+    record Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics, Path classes, Path generated) {
+
+        /**
+         * Gets the messages of the diagnostics of a kind.
+         *
+         * @param kind The kind of the diagnostics.
+         * @return The messages, in reporting order.
+         */
+        List<String> messages(Diagnostic.Kind kind) {
+            return diagnostics.stream()
+                    .filter(diagnostic -> diagnostic.getKind() == kind)
+                    .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                    .toList();
+        }
+
+        /**
+         * Reads a generated source file.
+         *
+         * @param name The qualified name of the generated class.
+         * @return The generated source code.
+         * @throws IOException If the file could not be read.
+         */
+        String source(String name) throws IOException {
+            return Files.readString(generated.resolve(name.replace('.', '/') + ".java"));
+        }
+
+        /**
+         * Loads a compiled class, including the generated ones.
+         *
+         * @param name The qualified name of the class.
+         * @return The loaded class.
+         * @throws Exception If the class could not be loaded or initialized.
+         */
+        Class<?> load(String name) throws Exception {
+            URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, ProcessorCompiler.class.getClassLoader());
+            return Class.forName(name, true, loader);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.base.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compiles projection interfaces with {@link ProjectionRecordProcessor}, checking the generated records and queries
+ * as well as the errors reported for invalid projections.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+class ProjectionRecordProcessorTest {
+
+    private static final String USER = """
+            package app;
+
+            @jakarta.persistence.Entity(name = "Member")
+            public class User {
+                @jakarta.persistence.Id
+                private Long id;
+                private String name;
+                private int age;
+            }
+            """;
+
+    @TempDir
+    Path output;
+
+    @Test
+    void generatesRecordAndQueries() throws Exception {
+        ProcessorCompiler.Compilation compilation = compile("app.UserView", """
+                package app;
+
+                @com.saadahmedev.base.projection.ProjectionRecord(entity = User.class)
+                public interface UserView {
+                    Long getId();
+                    String getName();
+                    int age();
+                    default String getLabel() { return getName() + " " + age(); }
+                }
+                """);
+
+        assertTrue(compilation.success(), compilation.diagnostics()::toString);
+        assertEquals(List.of(), compilation.messages(Diagnostic.Kind.WARNING));
+        assertTrue(compilation.source("app.UserViewRecord").contains("public record UserViewRecord(java.lang.Long id, java.lang.String name, int age) implements app.UserView"));
+
+        Class<?> record = compilation.load("app.UserViewRecord");
+        assertEquals("select new app.UserViewRecord(e.id, e.name, e.age) from Member e", record.getField("SELECT").get(null));
+        assertEquals("select new app.UserViewRecord(e.id, e.name, e.age) from Member e where e.id = :id", record.getField("SELECT_BY_ID").get(null));
+        assertEquals("select new app.UserViewRecord(e.id, e.name, e.age) from Member e where e.id in :ids", record.getField("SELECT_ALL_BY_ID").get(null));
+
+        Object view = record.getConstructors()[0].newInstance(1L, "Saad", 30);
+        assertEquals("Saad 30", record.getMethod("getLabel").invoke(view));
+    }
+
+    @Test
+    void rejectsAttributesMissingFromTheEntity() {
+        ProcessorCompiler.Compilation compilation = compile("app.UserView", """
+                package app;
+
+                @com.saadahmedev.base.projection.ProjectionRecord(entity = User.class)
+                public interface UserView {
+                    String getEmail();
+                }
+                """);
+
+        assertFalse(compilation.success());
+        assertEquals(List.of("Entity User has no attribute email read by getEmail()"), compilation.messages(Diagnostic.Kind.ERROR));
+    }
+
+    @Test
+    void rejectsClasses() {
+        ProcessorCompiler.Compilation compilation = compile("app.UserView", """
+                package app;
+
+                @com.saadahmedev.base.projection.ProjectionRecord(entity = User.class)
+                public class UserView {
+                }
+                """);
+
+        assertFalse(compilation.success());
+        assertEquals(List.of("@ProjectionRecord can only be placed on an interface"), compilation.messages(Diagnostic.Kind.ERROR));
+    }
+
+    private ProcessorCompiler.Compilation compile(String name, String source) {
+        return ProcessorCompiler.compile(new ProjectionRecordProcessor(), output, Map.of("app.User", USER, name, source));
+    }
+}